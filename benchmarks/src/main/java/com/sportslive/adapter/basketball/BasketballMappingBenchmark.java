@@ -0,0 +1,66 @@
+package com.sportslive.adapter.basketball;
+
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.benchmark.Collaborators;
+import com.sportslive.benchmark.Fixtures;
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.SportEvent;
+import com.sportslive.domain.model.Statistics;
+import com.sportslive.domain.model.Timeline;
+import com.sportslive.domain.model.TimelineEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BasketballMappingBenchmark {
+
+    private BasketballAdapter adapter;
+    private Map<String, Object> summary;
+    private Map<String, Object> timeline;
+    private Set<String> knownPlayIds;
+
+    @Setup
+    public void setUp() {
+        adapter = new BasketballAdapter(Collaborators.feeds(), Collaborators.payloads(), Collaborators.mappings(),
+                Collaborators.mapped());
+        summary = Fixtures.payload("basketball-summary.json");
+        timeline = Fixtures.payload("basketball-pbp.json");
+        knownPlayIds = adapter.mapToTimeline("sr:sport_event:50331204", timeline, id -> false).events().stream()
+                .map(TimelineEvent::id)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public SportEvent mapToSportEvent() {
+        return adapter.mapToSportEvent(summary);
+    }
+
+    @Benchmark
+    public Score mapToScore() {
+        return adapter.mapToScore(summary);
+    }
+
+    @Benchmark
+    public Timeline mapToTimeline() {
+        return adapter.mapToTimeline("sr:sport_event:50331204", timeline, id -> false);
+    }
+
+    @Benchmark
+    public Timeline mapToTimelineAllKnown() {
+        return adapter.mapToTimeline("sr:sport_event:50331204", timeline, knownPlayIds::contains);
+    }
+
+    @Benchmark
+    public Statistics mapToStatistics() {
+        return adapter.mapToStatistics("sr:sport_event:50331204", summary, StatisticsFilter.advanced("total"));
+    }
+}
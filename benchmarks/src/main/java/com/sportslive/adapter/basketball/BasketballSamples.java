@@ -0,0 +1,28 @@
+package com.sportslive.adapter.basketball;
+
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.benchmark.Collaborators;
+import com.sportslive.benchmark.Fixtures;
+
+import java.util.Map;
+
+public final class BasketballSamples {
+
+    private static final String EVENT_ID = "sr:sport_event:50331204";
+
+    private BasketballSamples() {
+    }
+
+    public static Object mapped(String resource) {
+        BasketballAdapter adapter = new BasketballAdapter(Collaborators.feeds(), Collaborators.payloads(),
+                Collaborators.mappings(), Collaborators.mapped());
+        Map<String, Object> summary = Fixtures.payload("basketball-summary.json");
+        return switch (resource) {
+            case "event" -> adapter.mapToSportEvent(summary);
+            case "score" -> adapter.mapToScore(summary);
+            case "timeline" -> adapter.mapToTimeline(EVENT_ID, Fixtures.payload("basketball-pbp.json"), id -> false);
+            case "statistics" -> adapter.mapToStatistics(EVENT_ID, summary, StatisticsFilter.advanced("total"));
+            default -> throw new IllegalArgumentException("Unknown resource: " + resource);
+        };
+    }
+}
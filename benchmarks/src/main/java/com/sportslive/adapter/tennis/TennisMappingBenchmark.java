@@ -0,0 +1,54 @@
+package com.sportslive.adapter.tennis;
+
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.benchmark.Collaborators;
+import com.sportslive.benchmark.Fixtures;
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.SportEvent;
+import com.sportslive.domain.model.Statistics;
+import com.sportslive.domain.model.Timeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TennisMappingBenchmark {
+
+    private TennisAdapter adapter;
+    private Map<String, Object> summary;
+    private Map<String, Object> timeline;
+
+    @Setup
+    public void setUp() {
+        adapter = new TennisAdapter(Collaborators.feeds(), Collaborators.payloads(), Collaborators.mappings(),
+                Collaborators.mapped());
+        summary = Fixtures.payload("tennis-summary.json");
+        timeline = Fixtures.payload("tennis-timeline.json");
+    }
+
+    @Benchmark
+    public SportEvent mapToSportEvent() {
+        return adapter.mapToSportEvent(summary);
+    }
+
+    @Benchmark
+    public Score mapToScore() {
+        return adapter.mapToScore(summary);
+    }
+
+    @Benchmark
+    public Timeline mapToTimeline() {
+        return adapter.mapToTimeline("sr:sport_event:48800211", timeline, id -> false);
+    }
+
+    @Benchmark
+    public Statistics mapToStatistics() {
+        return adapter.mapToStatistics("sr:sport_event:48800211", summary, StatisticsFilter.advanced("total"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.sportslive.adapter.tennis;
+
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.benchmark.Collaborators;
+import com.sportslive.benchmark.Fixtures;
+
+import java.util.Map;
+
+public final class TennisSamples {
+
+    private static final String EVENT_ID = "sr:sport_event:48800211";
+
+    private TennisSamples() {
+    }
+
+    public static Object mapped(String resource) {
+        TennisAdapter adapter = new TennisAdapter(Collaborators.feeds(), Collaborators.payloads(),
+                Collaborators.mappings(), Collaborators.mapped());
+        Map<String, Object> summary = Fixtures.payload("tennis-summary.json");
+        return switch (resource) {
+            case "event" -> adapter.mapToSportEvent(summary);
+            case "score" -> adapter.mapToScore(summary);
+            case "timeline" -> adapter.mapToTimeline(EVENT_ID, Fixtures.payload("tennis-timeline.json"), id -> false);
+            case "statistics" -> adapter.mapToStatistics(EVENT_ID, summary, StatisticsFilter.advanced("total"));
+            default -> throw new IllegalArgumentException("Unknown resource: " + resource);
+        };
+    }
+}
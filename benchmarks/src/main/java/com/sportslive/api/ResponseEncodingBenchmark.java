@@ -0,0 +1,80 @@
+package com.sportslive.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sportslive.adapter.basketball.BasketballSamples;
+import com.sportslive.adapter.soccer.SoccerSamples;
+import com.sportslive.adapter.tennis.TennisSamples;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseEncodingBenchmark {
+
+    @Param({"soccer:timeline", "basketball:timeline", "tennis:timeline",
+            "soccer:statistics", "basketball:statistics", "tennis:statistics",
+            "soccer:event", "basketball:score"})
+    private String payload;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private Object value;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] parts = payload.split(":");
+        value = switch (parts[0]) {
+            case "soccer" -> SoccerSamples.mapped(parts[1]);
+            case "basketball" -> BasketballSamples.mapped(parts[1]);
+            case "tennis" -> TennisSamples.mapped(parts[1]);
+            default -> throw new IllegalArgumentException("Unknown sport: " + parts[0]);
+        };
+        // Same settings as the converters registered in WebConfig.
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize(EncodedBytes counter) throws IOException {
+        byte[] encoded = objectMapper.writeValueAsBytes(value);
+        counter.bytes += encoded.length;
+        return encoded;
+    }
+
+    // Reported as serialize:bytes in bytes/ms; divided by the primary score it gives the size of one response.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class EncodedBytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.sportslive.benchmark;
+
+import com.sportslive.config.FeedProperties;
+import com.sportslive.infrastructure.cache.MappedPayloadCache;
+import com.sportslive.infrastructure.feed.FeedRouter;
+import com.sportslive.infrastructure.feed.FileFeedProvider;
+import com.sportslive.infrastructure.metrics.MappingMetrics;
+import com.sportslive.infrastructure.sportradar.SportradarMetrics;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+
+public final class Collaborators {
+
+    private static final MeterRegistry REGISTRY = new SimpleMeterRegistry();
+
+    private Collaborators() {
+    }
+
+    public static FeedRouter feeds() {
+        FeedProperties properties = new FeedProperties(
+                new FeedProperties.Routing(null, List.of("file"), null, null, null), null, null);
+        SportradarPayloadDecoder decoder = new SportradarPayloadDecoder(Fixtures.mapper(),
+                new SportradarMetrics(REGISTRY), "full");
+        return new FeedRouter(List.of(new FileFeedProvider(properties, decoder)), properties, REGISTRY);
+    }
+
+    public static SportradarPayloadCache payloads() {
+        return new SportradarPayloadCache(REGISTRY, Duration.ofSeconds(2), 2000);
+    }
+
+    public static MappingMetrics mappings() {
+        return new MappingMetrics(REGISTRY);
+    }
+
+    public static MappedPayloadCache mapped() {
+        return new MappedPayloadCache();
+    }
+}
@@ -0,0 +1,57 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportslive.benchmark.Fixtures;
+import com.sportslive.domain.model.Sport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadDecodingBenchmark {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"SOCCER:SUMMARY", "SOCCER:TIMELINE", "BASKETBALL:SUMMARY", "BASKETBALL:PLAY_BY_PLAY",
+            "TENNIS:SUMMARY", "TENNIS:TIMELINE"})
+    private String payload;
+
+    private ObjectMapper objectMapper;
+    private SportradarPayloadDecoder decoder;
+    private JsonProjection projection;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        String[] parts = payload.split(":");
+        Sport sport = Sport.valueOf(parts[0]);
+        SportradarResource resource = SportradarResource.valueOf(parts[1]);
+
+        objectMapper = Fixtures.mapper();
+        decoder = new SportradarPayloadDecoder(objectMapper,
+                new SportradarMetrics(new SimpleMeterRegistry()), "selective");
+        projection = SportradarProjections.forResource(sport, resource);
+        body = Fixtures.bytes(sport.getCode() + "-" + resource.getCode() + ".json");
+    }
+
+    @Benchmark
+    public Map<String, Object> full() throws IOException {
+        return objectMapper.readValue(body, PAYLOAD_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, Object> selective() throws IOException {
+        return decoder.decode(new ByteArrayInputStream(body), projection);
+    }
+}
@@ -0,0 +1,119 @@
+package com.sportslive.loadtest;
+
+import com.sportslive.benchmark.Fixtures;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+public class FakeSportradarServer implements AutoCloseable {
+
+    private static final Map<String, String> FIXTURE_IDS = Map.of(
+            "soccer", "sr:sport_event:41762865",
+            "basketball", "sr:sport_event:50331204",
+            "tennis", "sr:sport_event:48800211");
+
+    private final StubOptions options;
+    private final Map<String, String[]> templates = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private DisposableServer server;
+
+    public FakeSportradarServer(StubOptions options) {
+        this.options = options;
+    }
+
+    public FakeSportradarServer start() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/{sport}/{collection}/{id}/{file}", this::handle))
+                .bindNow();
+        return this;
+    }
+
+    public String baseUrl(String sport) {
+        return "http://127.0.0.1:" + server.port() + "/" + sport;
+    }
+
+    public Map<String, Long> calls() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        calls.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        String sport = request.param("sport");
+        String resource = request.param("file").replace(".json", "");
+        String id = request.param("id");
+
+        String[] template = templates.computeIfAbsent(sport + "-" + resource, this::loadTemplate);
+        if (template.length == 0) {
+            return response.status(HttpResponseStatus.NOT_FOUND).send();
+        }
+        calls.computeIfAbsent(sport + "/" + resource, key -> new LongAdder()).increment();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Duration delay = options.latency();
+        if (!options.jitter().isZero()) {
+            delay = delay.plusNanos(random.nextLong(options.jitter().toNanos()));
+        }
+
+        if (random.nextDouble() < options.errorRate()) {
+            errors.increment();
+            return Mono.delay(delay)
+                    .then(response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send());
+        }
+
+        byte[] body = String.join(id, template).getBytes(StandardCharsets.UTF_8);
+        return Mono.delay(delay)
+                .then(response
+                        .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                        .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(body.length))
+                        .send(Mono.just(Unpooled.wrappedBuffer(body)))
+                        .then());
+    }
+
+    private String[] loadTemplate(String name) {
+        String sport = name.substring(0, name.indexOf('-'));
+        String fixtureId = FIXTURE_IDS.get(sport);
+        if (fixtureId == null) {
+            return new String[0];
+        }
+        String json;
+        try {
+            json = new String(Fixtures.bytes(name + ".json"), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return new String[0];
+        }
+        if (options.paddingBytes() > 0) {
+            json = "{\"_padding\":\"" + "x".repeat(options.paddingBytes()) + "\"," + json.substring(1);
+        }
+        return json.split(Pattern.quote(fixtureId), -1);
+    }
+}
@@ -0,0 +1,140 @@
+package com.sportslive.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadDriver {
+
+    private static final Map<String, String> ENDPOINTS = Map.of(
+            "event", "",
+            "score", "/score",
+            "timeline", "/timeline",
+            "stats", "/stats?advanced=true");
+
+    private final LoadTestOptions options;
+    private final String serviceUrl;
+    private final HttpClient httpClient;
+    private final List<String> weightedEndpoints = new ArrayList<>();
+    private final Map<String, Histogram> latencies = new LinkedHashMap<>();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean measuring;
+    private volatile boolean running = true;
+
+    public LoadDriver(LoadTestOptions options, String serviceUrl) {
+        this.options = options;
+        this.serviceUrl = serviceUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        options.mix().forEach((endpoint, weight) -> {
+            if (!ENDPOINTS.containsKey(endpoint)) {
+                throw new IllegalArgumentException("Unknown endpoint in mix: " + endpoint);
+            }
+            for (int i = 0; i < weight; i++) {
+                weightedEndpoints.add(endpoint);
+            }
+            latencies.put(endpoint, new ConcurrentHistogram(3));
+        });
+    }
+
+    public LoadResult run(Runnable onMeasurementStart) throws InterruptedException {
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                workers.submit(this::loop);
+            }
+
+            Thread.sleep(options.warmup().toMillis());
+            onMeasurementStart.run();
+            measuring = true;
+            long start = System.nanoTime();
+
+            Thread.sleep(options.duration().toMillis());
+            measuring = false;
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            running = false;
+            workers.shutdown();
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+
+            Map<Integer, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+            return new LoadResult(elapsed, latencies, statusCounts, failures.sum());
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String sport = options.sports().get(random.nextInt(options.sports().size()));
+            String endpoint = weightedEndpoints.get(random.nextInt(weightedEndpoints.size()));
+            String eventId = "sr:sport_event:" + nextId(random);
+
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(serviceUrl + "/v1/" + sport + "/events/" + eventId + ENDPOINTS.get(endpoint)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                record(endpoint, start, response.statusCode());
+            } catch (IOException e) {
+                if (measuring) {
+                    failures.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long nextId(ThreadLocalRandom random) {
+        if (options.coldIds() == 0 || random.nextDouble() < options.hotRatio()) {
+            return random.nextInt(Math.max(options.hotIds(), 1));
+        }
+        return options.hotIds() + random.nextInt(options.coldIds());
+    }
+
+    private void record(String endpoint, long start, int status) {
+        if (!measuring) {
+            return;
+        }
+        latencies.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    public record LoadResult(
+            Duration elapsed,
+            Map<String, Histogram> latencies,
+            Map<Integer, Long> statuses,
+            long failures
+    ) {
+
+        public Histogram total() {
+            Histogram total = new Histogram(3);
+            latencies.values().forEach(total::add);
+            return total;
+        }
+    }
+}
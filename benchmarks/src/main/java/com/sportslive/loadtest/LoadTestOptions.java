@@ -0,0 +1,77 @@
+package com.sportslive.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestOptions(
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        List<String> sports,
+        int hotIds,
+        int coldIds,
+        double hotRatio,
+        Map<String, Integer> mix,
+        StubOptions stub,
+        Map<String, String> serviceProperties
+) {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("warmup", "10s"),
+            Map.entry("duration", "60s"),
+            Map.entry("concurrency", "64"),
+            Map.entry("sports", "soccer,basketball,tennis"),
+            Map.entry("hot-ids", "20"),
+            Map.entry("cold-ids", "5000"),
+            Map.entry("hot-ratio", "0.9"),
+            Map.entry("mix", "event:2,score:5,timeline:2,stats:1"),
+            Map.entry("stub.latency", "80ms"),
+            Map.entry("stub.jitter", "40ms"),
+            Map.entry("stub.error-rate", "0.01"),
+            Map.entry("stub.padding-bytes", "0"));
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        Map<String, String> serviceProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (DEFAULTS.containsKey(key)) {
+                values.put(key, value);
+            } else {
+                serviceProperties.put(key, value);
+            }
+        }
+
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : values.get("mix").split(",")) {
+            String[] parts = entry.split(":");
+            mix.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+
+        return new LoadTestOptions(
+                DurationStyle.detectAndParse(values.get("warmup")),
+                DurationStyle.detectAndParse(values.get("duration")),
+                Integer.parseInt(values.get("concurrency")),
+                Arrays.stream(values.get("sports").split(",")).map(String::trim).toList(),
+                Integer.parseInt(values.get("hot-ids")),
+                Integer.parseInt(values.get("cold-ids")),
+                Double.parseDouble(values.get("hot-ratio")),
+                mix,
+                new StubOptions(
+                        DurationStyle.detectAndParse(values.get("stub.latency")),
+                        DurationStyle.detectAndParse(values.get("stub.jitter")),
+                        Double.parseDouble(values.get("stub.error-rate")),
+                        Integer.parseInt(values.get("stub.padding-bytes"))),
+                serviceProperties);
+    }
+}
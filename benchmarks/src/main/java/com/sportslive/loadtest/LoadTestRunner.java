@@ -0,0 +1,89 @@
+package com.sportslive.loadtest;
+
+import com.sportslive.SportsLiveServiceApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (FakeSportradarServer stub = new FakeSportradarServer(options.stub()).start()) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("server.port", 0);
+            properties.put("sportradar.api-key", "load-test");
+            properties.put("sportradar.base-urls.soccer", stub.baseUrl("soccer"));
+            properties.put("sportradar.base-urls.basketball", stub.baseUrl("basketball"));
+            properties.put("sportradar.base-urls.tennis", stub.baseUrl("tennis"));
+            properties.put("logging.level.com.sportslive", "WARN");
+            properties.putAll(options.serviceProperties());
+
+            SpringApplication application = new SpringApplication(SportsLiveServiceApplication.class);
+            application.setDefaultProperties(properties);
+            try (ConfigurableApplicationContext context = application.run()) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+                AtomicReference<Map<String, Long>> callsAtStart = new AtomicReference<>(Map.of());
+                AtomicReference<Long> errorsAtStart = new AtomicReference<>(0L);
+                LoadDriver.LoadResult result = new LoadDriver(options, "http://127.0.0.1:" + port)
+                        .run(() -> {
+                            callsAtStart.set(stub.calls());
+                            errorsAtStart.set(stub.errors());
+                        });
+
+                Map<String, Long> upstreamCalls = new HashMap<>();
+                stub.calls().forEach((key, count) ->
+                        upstreamCalls.put(key, count - callsAtStart.get().getOrDefault(key, 0L)));
+                print(options, result, upstreamCalls, stub.errors() - errorsAtStart.get());
+            }
+        }
+    }
+
+    private static void print(LoadTestOptions options, LoadDriver.LoadResult result,
+            Map<String, Long> upstreamCalls, long upstreamErrors) {
+        double seconds = result.elapsed().toNanos() / 1e9;
+        Histogram total = result.total();
+
+        System.out.println();
+        System.out.printf("Load test: %s measured after %s warmup, concurrency %d, hot ids %d (%.0f%%), cold ids %d%n",
+                options.duration(), options.warmup(), options.concurrency(), options.hotIds(),
+                options.hotRatio() * 100, options.coldIds());
+        System.out.printf("Stub: latency %s + jitter %s, error rate %.3f, padding %d bytes%n",
+                options.stub().latency(), options.stub().jitter(), options.stub().errorRate(),
+                options.stub().paddingBytes());
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        result.latencies().forEach((endpoint, histogram) -> printRow(endpoint, histogram, seconds));
+        printRow("total", total, seconds);
+
+        System.out.println();
+        System.out.println("Responses by status: " + result.statuses()
+                + (result.failures() > 0 ? ", transport failures: " + result.failures() : ""));
+
+        long calls = upstreamCalls.values().stream().mapToLong(Long::longValue).sum();
+        System.out.printf("Upstream calls: %d (%.1f per 1k requests), injected errors: %d%n",
+                calls, total.getTotalCount() == 0 ? 0 : calls * 1000.0 / total.getTotalCount(), upstreamErrors);
+        upstreamCalls.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> System.out.printf("  %-22s %10d%n", entry.getKey(), entry.getValue()));
+    }
+
+    private static void printRow(String name, Histogram histogram, double seconds) {
+        System.out.printf("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
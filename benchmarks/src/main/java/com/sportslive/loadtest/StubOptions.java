@@ -0,0 +1,11 @@
+package com.sportslive.loadtest;
+
+import java.time.Duration;
+
+public record StubOptions(
+        Duration latency,
+        Duration jitter,
+        double errorRate,
+        int paddingBytes
+) {
+}
@@ -0,0 +1,24 @@
+package com.sportslive.adapter;
+
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.domain.model.*;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Predicate;
+
+public interface ReactiveSportAdapter {
+
+    Sport getSupportedSport();
+
+    Mono<SportEvent> getEvent(String eventId);
+
+    Mono<Score> getScore(String eventId);
+
+    default Mono<Timeline> getTimeline(String eventId) {
+        return getTimeline(eventId, id -> false);
+    }
+
+    Mono<Timeline> getTimeline(String eventId, Predicate<String> alreadyKnown);
+
+    Mono<Statistics> getStatistics(String eventId, StatisticsFilter filter);
+}
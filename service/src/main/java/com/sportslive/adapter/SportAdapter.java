@@ -2,6 +2,8 @@ package com.sportslive.adapter;
 
 import com.sportslive.domain.model.*;
 
+import java.util.function.Predicate;
+
 public interface SportAdapter {
 
     Sport getSupportedSport();
@@ -10,7 +12,11 @@ public interface SportAdapter {
 
     Score getScore(String eventId);
 
-    Timeline getTimeline(String eventId);
+    default Timeline getTimeline(String eventId) {
+        return getTimeline(eventId, id -> false);
+    }
+
+    Timeline getTimeline(String eventId, Predicate<String> alreadyKnown);
 
     Statistics getStatistics(String eventId, StatisticsFilter filter);
 
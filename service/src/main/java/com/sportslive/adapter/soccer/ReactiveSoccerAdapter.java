@@ -0,0 +1,82 @@
+package com.sportslive.adapter.soccer;
+
+import com.sportslive.adapter.ReactiveSportAdapter;
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.domain.model.*;
+import com.sportslive.infrastructure.cache.MappedPayloadCache;
+import com.sportslive.infrastructure.feed.FeedRouter;
+import com.sportslive.infrastructure.metrics.MappingMetrics;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Component
+public class ReactiveSoccerAdapter implements ReactiveSportAdapter {
+
+    private final FeedRouter feeds;
+    private final SportradarPayloadCache payloads;
+    private final SoccerAdapter mapper;
+    private final MappingMetrics mappings;
+    private final MappedPayloadCache mapped;
+
+    public ReactiveSoccerAdapter(FeedRouter feeds, SportradarPayloadCache payloads,
+            SoccerAdapter mapper, MappingMetrics mappings, MappedPayloadCache mapped) {
+        this.feeds = feeds;
+        this.payloads = payloads;
+        this.mapper = mapper;
+        this.mappings = mappings;
+        this.mapped = mapped;
+    }
+
+    @Override
+    public Sport getSupportedSport() {
+        return Sport.SOCCER;
+    }
+
+    @Override
+    public Mono<SportEvent> getEvent(String eventId) {
+        return fetchSummary(eventId, UpstreamPriority.EVENT_DETAILS)
+                .map(response -> map(response, "event", null, () -> mapper.mapToSportEvent(response)));
+    }
+
+    @Override
+    public Mono<Score> getScore(String eventId) {
+        return fetchSummary(eventId, UpstreamPriority.LIVE_SCORE)
+                .map(response -> map(response, "score", null, () -> mapper.mapToScore(response)));
+    }
+
+    @Override
+    public Mono<Timeline> getTimeline(String eventId, Predicate<String> alreadyKnown) {
+        return fetchTimeline(eventId)
+                .map(response -> mappings.time(Sport.SOCCER, "timeline",
+                        () -> mapper.mapToTimeline(eventId, response, alreadyKnown)));
+    }
+
+    @Override
+    public Mono<Statistics> getStatistics(String eventId, StatisticsFilter filter) {
+        return fetchSummary(eventId, UpstreamPriority.STATISTICS)
+                .map(response -> map(response, "statistics", filter,
+                        () -> mapper.mapToStatistics(eventId, response, filter)));
+    }
+
+    private <T> T map(Map<String, Object> response, String resource, Object variant, Supplier<T> mapping) {
+        return mapped.get(response, resource, variant, () -> mappings.time(Sport.SOCCER, resource, mapping));
+    }
+
+    private Mono<Map<String, Object>> fetchSummary(String eventId, UpstreamPriority priority) {
+        return payloads.getReactive(Sport.SOCCER, SportradarResource.SUMMARY, eventId,
+                id -> feeds.fetchReactive(Sport.SOCCER, SportradarResource.SUMMARY, id, priority));
+    }
+
+    private Mono<Map<String, Object>> fetchTimeline(String eventId) {
+        return payloads.getReactive(Sport.SOCCER, SportradarResource.TIMELINE, eventId,
+                id -> feeds.fetchReactive(Sport.SOCCER, SportradarResource.TIMELINE, id,
+                        UpstreamPriority.TIMELINE));
+    }
+}
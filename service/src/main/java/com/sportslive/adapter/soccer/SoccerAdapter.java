@@ -2,21 +2,35 @@ package com.sportslive.adapter.soccer;
 
 import com.sportslive.adapter.SportAdapter;
 import com.sportslive.domain.model.*;
-import com.sportslive.infrastructure.sportradar.SportradarClient;
+import com.sportslive.infrastructure.cache.MappedPayloadCache;
+import com.sportslive.infrastructure.feed.FeedRouter;
+import com.sportslive.infrastructure.metrics.MappingMetrics;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @Component
 public class SoccerAdapter implements SportAdapter {
 
-    private final SportradarClient client;
-
-    public SoccerAdapter(SportradarClient client) {
-        this.client = client;
+    private final FeedRouter feeds;
+    private final SportradarPayloadCache payloads;
+    private final MappingMetrics mappings;
+    private final MappedPayloadCache mapped;
+
+    public SoccerAdapter(FeedRouter feeds, SportradarPayloadCache payloads, MappingMetrics mappings,
+            MappedPayloadCache mapped) {
+        this.feeds = feeds;
+        this.payloads = payloads;
+        this.mappings = mappings;
+        this.mapped = mapped;
     }
 
     @Override
@@ -26,29 +40,47 @@ public class SoccerAdapter implements SportAdapter {
 
     @Override
     public SportEvent getEvent(String eventId) {
-        var response = client.getSoccerMatch(eventId);
-        return mapToSportEvent(response);
+        var response = fetchSummary(eventId, UpstreamPriority.EVENT_DETAILS);
+        return map(response, "event", null, () -> mapToSportEvent(response));
     }
 
     @Override
     public Score getScore(String eventId) {
-        var response = client.getSoccerMatch(eventId);
-        return mapToScore(response);
+        var response = fetchSummary(eventId, UpstreamPriority.LIVE_SCORE);
+        return map(response, "score", null, () -> mapToScore(response));
     }
 
     @Override
-    public Timeline getTimeline(String eventId) {
-        var response = client.getSoccerTimeline(eventId);
-        return mapToTimeline(eventId, response);
+    public Timeline getTimeline(String eventId, Predicate<String> alreadyKnown) {
+        var response = fetchTimeline(eventId);
+        // Not memoized per payload: the result depends on which events the timeline log already holds.
+        return mappings.time(Sport.SOCCER, "timeline",
+                () -> mapToTimeline(eventId, response, alreadyKnown));
     }
 
     @Override
     public Statistics getStatistics(String eventId, StatisticsFilter filter) {
-        var response = client.getSoccerStatistics(eventId);
-        return mapToStatistics(eventId, response, filter);
+        var response = fetchSummary(eventId, UpstreamPriority.STATISTICS);
+        return map(response, "statistics", filter,
+                () -> mapToStatistics(eventId, response, filter));
+    }
+
+    private <T> T map(Map<String, Object> response, String resource, Object variant, Supplier<T> mapping) {
+        return mapped.get(response, resource, variant, () -> mappings.time(Sport.SOCCER, resource, mapping));
+    }
+
+    private Map<String, Object> fetchSummary(String eventId, UpstreamPriority priority) {
+        return payloads.get(Sport.SOCCER, SportradarResource.SUMMARY, eventId,
+                id -> feeds.fetch(Sport.SOCCER, SportradarResource.SUMMARY, id, priority));
+    }
+
+    private Map<String, Object> fetchTimeline(String eventId) {
+        return payloads.get(Sport.SOCCER, SportradarResource.TIMELINE, eventId,
+                id -> feeds.fetch(Sport.SOCCER, SportradarResource.TIMELINE, id,
+                        UpstreamPriority.TIMELINE));
     }
 
-    private SportEvent mapToSportEvent(Map<String, Object> response) {
+    SportEvent mapToSportEvent(Map<String, Object> response) {
         var sportEvent = getNestedMap(response, "sport_event");
         var status = getNestedMap(response, "sport_event_status");
         var competition = getNestedMap(sportEvent, "sport_event_context", "competition");
@@ -79,7 +111,7 @@ public class SoccerAdapter implements SportAdapter {
                 determineCoverage(response));
     }
 
-    private Score mapToScore(Map<String, Object> response) {
+    Score mapToScore(Map<String, Object> response) {
         var status = getNestedMap(response, "sport_event_status");
         if (status == null)
             return Score.of(0, 0);
@@ -89,13 +121,14 @@ public class SoccerAdapter implements SportAdapter {
         return Score.of(home, away);
     }
 
-    private Timeline mapToTimeline(String eventId, Map<String, Object> response) {
+    Timeline mapToTimeline(String eventId, Map<String, Object> response, Predicate<String> alreadyKnown) {
         var timelineEvents = getNestedList(response, "timeline");
         if (timelineEvents == null) {
             return new Timeline(eventId, List.of(), CoverageMetadata.minimal());
         }
 
         List<TimelineEvent> events = timelineEvents.stream()
+                .filter(event -> !alreadyKnown.test(getString(event, "id")))
                 .map(this::mapTimelineEvent)
                 .toList();
 
@@ -118,7 +151,7 @@ public class SoccerAdapter implements SportAdapter {
                 event);
     }
 
-    private Statistics mapToStatistics(String eventId, Map<String, Object> response, StatisticsFilter filter) {
+    Statistics mapToStatistics(String eventId, Map<String, Object> response, StatisticsFilter filter) {
         var stats = getNestedMap(response, "statistics");
         if (stats == null) {
             return new Statistics(eventId, filter.period(), Map.of(),
@@ -2,20 +2,34 @@ package com.sportslive.adapter.tennis;
 
 import com.sportslive.adapter.SportAdapter;
 import com.sportslive.domain.model.*;
-import com.sportslive.infrastructure.sportradar.SportradarClient;
+import com.sportslive.infrastructure.cache.MappedPayloadCache;
+import com.sportslive.infrastructure.feed.FeedRouter;
+import com.sportslive.infrastructure.metrics.MappingMetrics;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @Component
 public class TennisAdapter implements SportAdapter {
 
-    private final SportradarClient client;
-
-    public TennisAdapter(SportradarClient client) {
-        this.client = client;
+    private final FeedRouter feeds;
+    private final SportradarPayloadCache payloads;
+    private final MappingMetrics mappings;
+    private final MappedPayloadCache mapped;
+
+    public TennisAdapter(FeedRouter feeds, SportradarPayloadCache payloads, MappingMetrics mappings,
+            MappedPayloadCache mapped) {
+        this.feeds = feeds;
+        this.payloads = payloads;
+        this.mappings = mappings;
+        this.mapped = mapped;
     }
 
     @Override
@@ -25,29 +39,46 @@ public class TennisAdapter implements SportAdapter {
 
     @Override
     public SportEvent getEvent(String eventId) {
-        var response = client.getTennisMatch(eventId);
-        return mapToSportEvent(response);
+        var response = fetchSummary(eventId, UpstreamPriority.EVENT_DETAILS);
+        return map(response, "event", null, () -> mapToSportEvent(response));
     }
 
     @Override
     public Score getScore(String eventId) {
-        var response = client.getTennisMatch(eventId);
-        return mapToScore(response);
+        var response = fetchSummary(eventId, UpstreamPriority.LIVE_SCORE);
+        return map(response, "score", null, () -> mapToScore(response));
     }
 
     @Override
-    public Timeline getTimeline(String eventId) {
-        var response = client.getTennisTimeline(eventId);
-        return mapToTimeline(eventId, response);
+    public Timeline getTimeline(String eventId, Predicate<String> alreadyKnown) {
+        var response = fetchTimeline(eventId);
+        return mappings.time(Sport.TENNIS, "timeline",
+                () -> mapToTimeline(eventId, response, alreadyKnown));
     }
 
     @Override
     public Statistics getStatistics(String eventId, StatisticsFilter filter) {
-        var response = client.getTennisStatistics(eventId);
-        return mapToStatistics(eventId, response, filter);
+        var response = fetchSummary(eventId, UpstreamPriority.STATISTICS);
+        return map(response, "statistics", filter,
+                () -> mapToStatistics(eventId, response, filter));
+    }
+
+    private <T> T map(Map<String, Object> response, String resource, Object variant, Supplier<T> mapping) {
+        return mapped.get(response, resource, variant, () -> mappings.time(Sport.TENNIS, resource, mapping));
+    }
+
+    private Map<String, Object> fetchSummary(String eventId, UpstreamPriority priority) {
+        return payloads.get(Sport.TENNIS, SportradarResource.SUMMARY, eventId,
+                id -> feeds.fetch(Sport.TENNIS, SportradarResource.SUMMARY, id, priority));
+    }
+
+    private Map<String, Object> fetchTimeline(String eventId) {
+        return payloads.get(Sport.TENNIS, SportradarResource.TIMELINE, eventId,
+                id -> feeds.fetch(Sport.TENNIS, SportradarResource.TIMELINE, id,
+                        UpstreamPriority.TIMELINE));
     }
 
-    private SportEvent mapToSportEvent(Map<String, Object> response) {
+    SportEvent mapToSportEvent(Map<String, Object> response) {
         var sportEvent = getMap(response, "sport_event");
         var status = getMap(response, "sport_event_status");
         var competition = getMap(sportEvent, "sport_event_context", "competition");
@@ -78,7 +109,7 @@ public class TennisAdapter implements SportAdapter {
                 CoverageMetadata.full());
     }
 
-    private Score mapToScore(Map<String, Object> response) {
+    Score mapToScore(Map<String, Object> response) {
         var status = getMap(response, "sport_event_status");
         if (status == null)
             return new Score(null, null, Map.of(), "0-0");
@@ -100,13 +131,14 @@ public class TennisAdapter implements SportAdapter {
         return new Score(null, null, Map.of(), display.toString().trim() + " (" + gameScore + ")");
     }
 
-    private Timeline mapToTimeline(String eventId, Map<String, Object> response) {
+    Timeline mapToTimeline(String eventId, Map<String, Object> response, Predicate<String> alreadyKnown) {
         var timeline = getList(response, "timeline");
         if (timeline == null) {
             return new Timeline(eventId, List.of(), CoverageMetadata.minimal());
         }
 
         List<TimelineEvent> events = timeline.stream()
+                .filter(event -> !alreadyKnown.test(getString(event, "id")))
                 .map(this::mapTimelineEvent)
                 .toList();
 
@@ -129,7 +161,7 @@ public class TennisAdapter implements SportAdapter {
                 event);
     }
 
-    private Statistics mapToStatistics(String eventId, Map<String, Object> response, StatisticsFilter filter) {
+    Statistics mapToStatistics(String eventId, Map<String, Object> response, StatisticsFilter filter) {
         AdvancedStatistics advanced = filter.includeAdvanced()
                 ? extractAdvancedStats(response)
                 : AdvancedStatistics.unavailable(Sport.TENNIS);
@@ -0,0 +1,258 @@
+package com.sportslive.api.controller;
+
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.api.dto.BatchItem;
+import com.sportslive.api.dto.BatchRequest;
+import com.sportslive.api.dto.BatchResponse;
+import com.sportslive.domain.model.*;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.cache.SerializedResponseCache;
+import com.sportslive.infrastructure.cache.SerializedResponseCache.SerializedResponse;
+import com.sportslive.service.BatchResult;
+import com.sportslive.service.BatchService;
+import com.sportslive.service.EventService;
+import com.sportslive.service.stream.LiveStreamService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/v1/{sport}/events")
+@Tag(name = "Events", description = "API unificada para eventos esportivos")
+public class EventController {
+
+    private static final Map<MediaType, String> BINARY_TYPES = Map.of(
+            MediaType.APPLICATION_CBOR, "cbor",
+            MediaType.valueOf("application/x-jackson-smile"), "smile");
+
+    private final EventService eventService;
+    private final LiveStreamService liveStreamService;
+    private final BatchService batchService;
+    private final SerializedResponseCache responses;
+    private final boolean reactive;
+
+    public EventController(
+            EventService eventService,
+            LiveStreamService liveStreamService,
+            BatchService batchService,
+            SerializedResponseCache responses,
+            @Value("${api.reactive.enabled:true}") boolean reactive) {
+        this.eventService = eventService;
+        this.liveStreamService = liveStreamService;
+        this.batchService = batchService;
+        this.responses = responses;
+        this.reactive = reactive;
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Obter vários eventos", description = "Retorna detalhes de vários eventos, com erro individual por id")
+    public Mono<ResponseEntity<BatchResponse<SportEvent>>> getEvents(
+            @PathVariable String sport,
+            @Valid @RequestBody BatchRequest request) {
+        return batchService.getEvents(sport, request.ids())
+                .map(results -> ResponseEntity.ok(BatchResponse.of(sport, toItems(results))));
+    }
+
+    @PostMapping("/score/batch")
+    @Operation(summary = "Obter vários placares", description = "Retorna o placar de vários eventos, com erro individual por id")
+    public Mono<ResponseEntity<BatchResponse<Score>>> getScores(
+            @PathVariable String sport,
+            @Valid @RequestBody BatchRequest request) {
+        return batchService.getScores(sport, request.ids())
+                .map(results -> ResponseEntity.ok(BatchResponse.of(sport, toItems(results))));
+    }
+
+    @GetMapping("/{eventId}")
+    @Operation(summary = "Obter detalhes do evento", description = "Retorna informações completas do evento esportivo")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = SportEvent.class)))
+    public Mono<ResponseEntity<?>> getEvent(
+            @Parameter(description = "Esporte: soccer, basketball, tennis") @PathVariable String sport,
+            @Parameter(description = "ID do evento") @PathVariable String eventId,
+            @RequestHeader HttpHeaders headers) {
+        return resolve(() -> eventService.getEvent(sport, eventId),
+                () -> eventService.getEventAsync(sport, eventId))
+                .map(event -> conditional(event, headers));
+    }
+
+    @GetMapping("/{eventId}/score")
+    @Operation(summary = "Obter placar atual", description = "Retorna o placar do evento em tempo real")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = Score.class)))
+    public Mono<ResponseEntity<?>> getScore(
+            @PathVariable String sport,
+            @PathVariable String eventId,
+            @RequestHeader HttpHeaders headers) {
+        return resolve(() -> eventService.getScore(sport, eventId),
+                () -> eventService.getScoreAsync(sport, eventId))
+                .map(score -> conditional(score, headers));
+    }
+
+    @GetMapping(value = "/{eventId}/score/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream do placar", description = "Envia o placar via Server-Sent Events sempre que ele muda")
+    public SseEmitter streamScore(
+            @PathVariable String sport,
+            @PathVariable String eventId) {
+        return liveStreamService.subscribeScore(sport, eventId);
+    }
+
+    @GetMapping("/{eventId}/timeline")
+    @Operation(summary = "Obter timeline", description = "Retorna eventos play-by-play do jogo")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = Timeline.class)))
+    public Mono<ResponseEntity<?>> getTimeline(
+            @PathVariable String sport,
+            @PathVariable String eventId,
+            @RequestHeader HttpHeaders headers) {
+        return resolve(() -> eventService.getTimeline(sport, eventId),
+                () -> eventService.getTimelineAsync(sport, eventId))
+                .map(timeline -> conditional(timeline, headers));
+    }
+
+    @GetMapping(value = "/{eventId}/timeline", params = "since")
+    @Operation(summary = "Obter novos eventos da timeline",
+            description = "Retorna apenas os eventos posteriores ao cursor (id do último evento ou sequência) e o novo cursor")
+    public Mono<ResponseEntity<TimelineDelta>> getTimelineSince(
+            @PathVariable String sport,
+            @PathVariable String eventId,
+            @Parameter(description = "Id do último evento recebido ou cursor da resposta anterior") @RequestParam String since) {
+        return resolve(() -> eventService.getTimelineSince(sport, eventId, since),
+                () -> eventService.getTimelineSinceAsync(sport, eventId, since))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{eventId}/timeline/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream da timeline", description = "Envia novos eventos play-by-play via Server-Sent Events")
+    public SseEmitter streamTimeline(
+            @PathVariable String sport,
+            @PathVariable String eventId) {
+        return liveStreamService.subscribeTimeline(sport, eventId);
+    }
+
+    @GetMapping("/{eventId}/stats")
+    @Operation(summary = "Obter estatísticas", description = "Retorna estatísticas básicas e avançadas do evento")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = Statistics.class)))
+    public Mono<ResponseEntity<?>> getStatistics(
+            @PathVariable String sport,
+            @PathVariable String eventId,
+            @Parameter(description = "Incluir estatísticas avançadas") @RequestParam(defaultValue = "false") boolean advanced,
+            @Parameter(description = "Período: total, 1st_half, 2nd_half, q1, q2, set1, etc") @RequestParam(defaultValue = "total") String period,
+            @RequestHeader HttpHeaders headers) {
+
+        StatisticsFilter filter = new StatisticsFilter(advanced, period);
+        return resolve(() -> eventService.getStatistics(sport, eventId, filter),
+                () -> eventService.getStatisticsAsync(sport, eventId, filter))
+                .map(statistics -> conditional(statistics, headers));
+    }
+
+    // JSON is answered with the bytes serialized once per cache entry; CBOR/Smile still go through the converters.
+    private ResponseEntity<?> conditional(Object value, HttpHeaders headers) {
+        SerializedResponse response = responses.get(value);
+        boolean json = response.json() != null && acceptsJson(headers.getAccept());
+        boolean gzip = json && response.gzip() != null && acceptsGzip(headers.getFirst(HttpHeaders.ACCEPT_ENCODING));
+        MediaType binary = json ? null : binaryType(headers.getAccept());
+        String etag = gzip ? response.etag("gzip")
+                : binary != null ? response.etag(BINARY_TYPES.get(binary))
+                : response.etag();
+        if (responses.matches(headers.getFirst(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (!json) {
+            // Pins the converter to the type the tag was derived for.
+            if (binary != null) {
+                ok.contentType(binary);
+            }
+            return ok.body(value);
+        }
+        ok.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+        }
+        return ok.body(response.json());
+    }
+
+    private boolean acceptsJson(List<MediaType> accepted) {
+        if (accepted.isEmpty()) {
+            return true;
+        }
+        return accepted.stream().anyMatch(type -> type.includes(MediaType.APPLICATION_JSON))
+                && accepted.stream().noneMatch(type -> type.isConcrete() && BINARY_TYPES.keySet().stream().anyMatch(type::isCompatibleWith));
+    }
+
+    private MediaType binaryType(List<MediaType> accepted) {
+        for (MediaType type : accepted) {
+            if (!type.isConcrete()) {
+                continue;
+            }
+            for (MediaType binary : BINARY_TYPES.keySet()) {
+                if (binary.isCompatibleWith(type)) {
+                    return binary;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.contains("gzip") && !acceptEncoding.contains("gzip;q=0");
+    }
+
+    private <T> List<BatchItem<T>> toItems(List<BatchResult<T>> results) {
+        return results.stream()
+                .map(result -> result.isSuccess()
+                        ? BatchItem.ok(result.eventId(), result.value())
+                        : toFailedItem(result.eventId(), result.error()))
+                .toList();
+    }
+
+    private <T> BatchItem<T> toFailedItem(String eventId, Throwable error) {
+        if (error instanceof ExternalServiceException ex) {
+            return BatchItem.failed(eventId, 503, "Serviço externo indisponível", ex.getProviderStatus());
+        }
+        if (error instanceof CallNotPermittedException) {
+            return BatchItem.failed(eventId, 503, "Serviço temporariamente indisponível", "circuit_open");
+        }
+        if (error instanceof BulkheadFullException) {
+            return BatchItem.failed(eventId, 503, "Serviço sobrecarregado", "bulkhead_full");
+        }
+        if (error instanceof TimeoutException) {
+            return BatchItem.failed(eventId, 504, "Tempo de resposta excedido", "timeout");
+        }
+        if (error instanceof WebClientResponseException ex) {
+            return BatchItem.failed(eventId, 502, "Erro na comunicação com provedor externo",
+                    ex.getStatusCode().toString());
+        }
+        if (error instanceof NoSuchElementException) {
+            return BatchItem.failed(eventId, 404, "Evento não encontrado", null);
+        }
+        return BatchItem.failed(eventId, 500, "Erro interno do servidor", null);
+    }
+
+    private <T> Mono<T> resolve(Supplier<T> blocking, Supplier<Mono<T>> nonBlocking) {
+        return reactive ? nonBlocking.get() : Mono.fromSupplier(blocking);
+    }
+}
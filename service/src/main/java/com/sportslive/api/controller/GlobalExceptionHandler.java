@@ -3,12 +3,15 @@ package com.sportslive.api.controller;
 import com.sportslive.api.dto.ErrorResponse;
 import com.sportslive.exception.ExternalServiceException;
 import com.sportslive.exception.UnsupportedSportException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -20,6 +23,7 @@ import java.util.concurrent.TimeoutException;
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final String BULKHEAD_RETRY_AFTER_SECONDS = "1";
 
     @ExceptionHandler(UnsupportedSportException.class)
     public ResponseEntity<ErrorResponse> handleUnsupportedSport(UnsupportedSportException ex) {
@@ -29,6 +33,18 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(getTraceId(), 400, "Bad Request", ex.getMessage()));
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(MethodArgumentNotValidException ex) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .findFirst()
+                .orElse("Requisição inválida");
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.of(getTraceId(), 400, "Bad Request", message));
+    }
+
     @ExceptionHandler(ExternalServiceException.class)
     public ResponseEntity<ErrorResponse> handleExternalService(ExternalServiceException ex) {
         log.error("External service error: {}", ex.getMessage());
@@ -47,6 +63,16 @@ public class GlobalExceptionHandler {
                         "Serviço temporariamente indisponível. Tente novamente em alguns segundos.", "circuit_open"));
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        log.warn("Bulkhead is full: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, BULKHEAD_RETRY_AFTER_SECONDS)
+                .body(ErrorResponse.withProvider(getTraceId(), 503, "Service Unavailable",
+                        "Serviço sobrecarregado. Tente novamente em instantes.", "bulkhead_full"));
+    }
+
     @ExceptionHandler(TimeoutException.class)
     public ResponseEntity<ErrorResponse> handleTimeout(TimeoutException ex) {
         log.error("Request timeout: {}", ex.getMessage());
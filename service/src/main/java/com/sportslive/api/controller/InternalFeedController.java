@@ -0,0 +1,70 @@
+package com.sportslive.api.controller;
+
+import com.sportslive.config.ClusterProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.cluster.PeerFeedClient;
+import com.sportslive.infrastructure.feed.SportradarFeedProvider;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+@Hidden
+@RestController
+@RequestMapping("/internal/feeds")
+public class InternalFeedController {
+
+    private final SportradarPayloadCache payloads;
+    private final SportradarFeedProvider sportradar;
+    private final byte[] token;
+
+    public InternalFeedController(SportradarPayloadCache payloads, SportradarFeedProvider sportradar,
+            ClusterProperties clusterProperties) {
+        this.payloads = payloads;
+        this.sportradar = sportradar;
+        this.token = clusterProperties.token().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Called by peers for events this node owns; always fetched locally so a ring disagreement cannot loop.
+    @GetMapping("/{sport}/{resource}/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> fetch(
+            @PathVariable Sport sport,
+            @PathVariable SportradarResource resource,
+            @PathVariable String id,
+            @RequestHeader(value = PeerFeedClient.TOKEN_HEADER, required = false) String peerToken,
+            @RequestHeader(value = PeerFeedClient.PRIORITY_HEADER, required = false) UpstreamPriority peerPriority) {
+        if (!authorized(peerToken)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+        UpstreamPriority priority = peerPriority != null ? peerPriority : priority(resource);
+        return payloads.getReactive(sport, resource, id,
+                        key -> sportradar.fetchLocalReactive(sport, resource, key, priority))
+                .map(ResponseEntity::ok);
+    }
+
+    // Only used when a peer does not send its caller's priority.
+    static UpstreamPriority priority(SportradarResource resource) {
+        return switch (resource) {
+            case SUMMARY -> UpstreamPriority.EVENT_DETAILS;
+            case TIMELINE, PLAY_BY_PLAY -> UpstreamPriority.TIMELINE;
+            case SCHEDULE -> UpstreamPriority.PREFETCH;
+        };
+    }
+
+    private boolean authorized(String peerToken) {
+        return token.length > 0 && peerToken != null
+                && MessageDigest.isEqual(token, peerToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package com.sportslive.api.dto;
+
+public record BatchItem<T>(
+        String eventId,
+        int status,
+        T data,
+        String error,
+        String providerStatus) {
+    public static <T> BatchItem<T> ok(String eventId, T data) {
+        return new BatchItem<>(eventId, 200, data, null, null);
+    }
+
+    public static <T> BatchItem<T> failed(String eventId, int status, String error, String providerStatus) {
+        return new BatchItem<>(eventId, status, null, error, providerStatus);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sportslive.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchRequest(
+        @NotEmpty @Size(max = 100) List<String> ids) {
+}
@@ -0,0 +1,14 @@
+package com.sportslive.api.dto;
+
+import java.util.List;
+
+public record BatchResponse<T>(
+        String sport,
+        int succeeded,
+        int failed,
+        List<BatchItem<T>> results) {
+    public static <T> BatchResponse<T> of(String sport, List<BatchItem<T>> results) {
+        int succeeded = (int) results.stream().filter(item -> item.status() == 200).count();
+        return new BatchResponse<>(sport, succeeded, results.size() - succeeded, results);
+    }
+}
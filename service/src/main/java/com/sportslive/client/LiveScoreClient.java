@@ -3,8 +3,12 @@ package com.sportslive.client;
 import com.sportslive.domain.model.Score;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 @Component
 public class LiveScoreClient {
@@ -34,4 +38,16 @@ public class LiveScoreClient {
             log.warn("Failed to fetch live score: {}", e.getMessage());
         }
     }
+
+    public Flux<Score> streamLiveScore(String sport, String eventId) {
+        log.debug("Subscribing to live score stream for {}/{}", sport, eventId);
+        return webClient.get()
+                .uri("/{sport}/events/{eventId}/score/stream", sport, eventId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<Score>>() {
+                })
+                .mapNotNull(ServerSentEvent::data)
+                .doOnNext(score -> log.info("Live score update: {} -> {}", eventId, score.displayScore()));
+    }
 }
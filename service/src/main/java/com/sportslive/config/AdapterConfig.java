@@ -1,7 +1,9 @@
 package com.sportslive.config;
 
+import com.sportslive.adapter.ReactiveSportAdapter;
 import com.sportslive.adapter.SportAdapter;
 import com.sportslive.domain.model.Sport;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,6 +13,11 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Configuration
+@EnableConfigurationProperties({
+        FeedProperties.class,
+        UpstreamSchedulerProperties.class,
+        SportradarHttpProperties.class,
+        PrewarmProperties.class})
 public class AdapterConfig {
 
     @Bean
@@ -20,4 +27,12 @@ public class AdapterConfig {
                         adapter -> adapter.getSupportedSport().getCode(),
                         Function.identity()));
     }
+
+    @Bean
+    public Map<String, ReactiveSportAdapter> reactiveSportAdapters(List<ReactiveSportAdapter> adapters) {
+        return adapters.stream()
+                .collect(Collectors.toMap(
+                        adapter -> adapter.getSupportedSport().getCode(),
+                        Function.identity()));
+    }
 }
@@ -0,0 +1,59 @@
+package com.sportslive.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportslive.infrastructure.cache.shared.InProcessSharedCache;
+import com.sportslive.infrastructure.cache.shared.RedisSharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties({CacheProperties.class, SharedCacheProperties.class})
+public class CacheConfig {
+
+    @Bean
+    public CaffeineCacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1000)
+                .recordStats());
+        return cacheManager;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService cacheLoaderExecutor(
+            @Value("${cache.loader.threads:32}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cache-loader-", 0).factory())
+                : Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("cache-loader-"));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.shared.mode", havingValue = "redis")
+    public SharedCache redisSharedCache(SharedCacheProperties properties) {
+        return new RedisSharedCache(properties.redis().uri(), properties.channel(), properties.redis().timeout());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.shared.mode", havingValue = "local")
+    public SharedCache localSharedCache(SharedCacheProperties properties) {
+        return new InProcessSharedCache(properties.maximumSize());
+    }
+
+    @Bean
+    public SharedValueCodec sharedValueCodec(Jackson2ObjectMapperBuilder mapperBuilder) {
+        return new SharedValueCodec(mapperBuilder.factory(new SmileFactory()).build());
+    }
+}
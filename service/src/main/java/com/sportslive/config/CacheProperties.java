@@ -0,0 +1,83 @@
+package com.sportslive.config;
+
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Sport;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "cache")
+public record CacheProperties(Map<String, Policy> policies, Duration kickoffWindow) {
+
+    public CacheProperties {
+        policies = policies != null ? policies : Map.of();
+        kickoffWindow = kickoffWindow != null ? kickoffWindow : Duration.ofMinutes(10);
+    }
+
+    public Policy policy(String cacheName) {
+        return policies.getOrDefault(cacheName, Policy.DEFAULT);
+    }
+
+    public record Policy(
+            Long maximumSize,
+            StatusTtl ttl,
+            Map<String, StatusTtl> sports,
+            Refresh refresh) {
+
+        static final Policy DEFAULT = new Policy(null, null, null, null);
+
+        public Policy {
+            maximumSize = maximumSize != null ? maximumSize : 1000L;
+            ttl = ttl != null ? ttl.withDefaults(StatusTtl.DEFAULT) : StatusTtl.DEFAULT;
+            sports = sports != null ? sports : Map.of();
+            refresh = refresh != null ? refresh : Refresh.DISABLED;
+        }
+
+        public Duration ttlFor(Sport sport, EventStatus status) {
+            StatusTtl sportTtl = sports.get(sport.getCode());
+            StatusTtl effective = sportTtl != null ? sportTtl.withDefaults(ttl) : ttl;
+            return effective.forStatus(status);
+        }
+    }
+
+    public record Refresh(
+            boolean enabled,
+            Double afterRatio,
+            Duration staleGrace) {
+
+        static final Refresh DISABLED = new Refresh(false, null, null);
+
+        public Refresh {
+            afterRatio = afterRatio != null ? afterRatio : 0.75;
+            staleGrace = staleGrace != null ? staleGrace : Duration.ZERO;
+        }
+    }
+
+    public record StatusTtl(
+            Duration live,
+            Duration scheduled,
+            Duration finished,
+            Duration other) {
+
+        static final StatusTtl DEFAULT = new StatusTtl(
+                Duration.ofMinutes(5), Duration.ofMinutes(5), Duration.ofMinutes(5), Duration.ofMinutes(5));
+
+        StatusTtl withDefaults(StatusTtl defaults) {
+            return new StatusTtl(
+                    live != null ? live : defaults.live(),
+                    scheduled != null ? scheduled : defaults.scheduled(),
+                    finished != null ? finished : defaults.finished(),
+                    other != null ? other : defaults.other());
+        }
+
+        Duration forStatus(EventStatus status) {
+            return switch (status) {
+                case LIVE -> live;
+                case SCHEDULED -> scheduled;
+                case FINISHED, CANCELLED -> finished;
+                default -> other;
+            };
+        }
+    }
+}
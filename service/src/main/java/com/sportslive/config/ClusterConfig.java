@@ -0,0 +1,34 @@
+package com.sportslive.config;
+
+import com.sportslive.infrastructure.cluster.ClusterNode;
+import com.sportslive.infrastructure.cluster.InMemoryMembership;
+import com.sportslive.infrastructure.cluster.Membership;
+import com.sportslive.infrastructure.cluster.StaticMembership;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ClusterProperties.class)
+public class ClusterConfig {
+
+    @Bean
+    public Membership membership(ClusterProperties properties) {
+        ClusterNode self = properties.self();
+        return switch (properties.membership()) {
+            case NONE -> new StaticMembership(self, List.of(self));
+            case STATIC -> new StaticMembership(self, requireToken(properties).nodes());
+            case MEMORY -> new InMemoryMembership(self, requireToken(properties).nodes());
+        };
+    }
+
+    private static ClusterProperties requireToken(ClusterProperties properties) {
+        if (properties.token().isBlank()) {
+            throw new IllegalStateException("cluster.token is required when cluster.membership is "
+                    + properties.membership().name().toLowerCase());
+        }
+        return properties;
+    }
+}
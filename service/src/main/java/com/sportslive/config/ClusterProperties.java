@@ -0,0 +1,41 @@
+package com.sportslive.config;
+
+import com.sportslive.infrastructure.cluster.ClusterNode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "cluster")
+public record ClusterProperties(
+        MembershipMode membership,
+        String selfId,
+        List<ClusterNode> nodes,
+        Integer virtualNodes,
+        Duration peerTimeout,
+        Duration suspectFor,
+        String token) {
+
+    public ClusterProperties {
+        membership = membership != null ? membership : MembershipMode.NONE;
+        selfId = selfId != null ? selfId : "local";
+        nodes = nodes != null ? nodes : List.of();
+        virtualNodes = virtualNodes != null ? virtualNodes : 128;
+        peerTimeout = peerTimeout != null ? peerTimeout : Duration.ofSeconds(2);
+        suspectFor = suspectFor != null ? suspectFor : Duration.ofSeconds(15);
+        token = token != null ? token : "";
+    }
+
+    public ClusterNode self() {
+        return nodes.stream()
+                .filter(node -> node.id().equals(selfId))
+                .findFirst()
+                .orElse(new ClusterNode(selfId, null));
+    }
+
+    public enum MembershipMode {
+        NONE,
+        STATIC,
+        MEMORY
+    }
+}
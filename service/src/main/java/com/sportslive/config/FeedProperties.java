@@ -0,0 +1,55 @@
+package com.sportslive.config;
+
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.feed.RoutingMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "feeds")
+public record FeedProperties(
+        Routing defaults,
+        Map<String, Routing> sports,
+        File file) {
+
+    public FeedProperties {
+        defaults = defaults != null ? defaults.withDefaults(Routing.DEFAULT) : Routing.DEFAULT;
+        sports = sports != null ? sports : Map.of();
+        file = file != null ? file : new File(null);
+    }
+
+    public Routing routing(Sport sport) {
+        Routing routing = sports.get(sport.getCode());
+        return routing != null ? routing.withDefaults(defaults) : defaults;
+    }
+
+    public record Routing(
+            RoutingMode mode,
+            List<String> providers,
+            Duration slowThreshold,
+            Integer raceWidth,
+            Duration probeInterval) {
+
+        static final Routing DEFAULT = new Routing(
+                RoutingMode.FAILOVER, List.of("sportradar"), Duration.ofSeconds(2), 2, Duration.ofSeconds(30));
+
+        Routing withDefaults(Routing defaults) {
+            return new Routing(
+                    mode != null ? mode : defaults.mode(),
+                    providers != null && !providers.isEmpty() ? providers : defaults.providers(),
+                    slowThreshold != null ? slowThreshold : defaults.slowThreshold(),
+                    raceWidth != null ? raceWidth : defaults.raceWidth(),
+                    probeInterval != null ? probeInterval : defaults.probeInterval());
+        }
+    }
+
+    public record File(Path directory) {
+
+        public File {
+            directory = directory != null ? directory : Path.of("feeds");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sportslive.config;
+
+import com.sportslive.domain.model.Sport;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "prewarm")
+public record PrewarmProperties(
+        boolean enabled,
+        List<Sport> sports,
+        Duration interval,
+        Duration window,
+        Duration scoreLead,
+        Duration scheduleRefresh,
+        Integer maxRequestsPerRun,
+        Double minSpareTokens) {
+
+    public PrewarmProperties {
+        sports = sports != null && !sports.isEmpty() ? List.copyOf(sports) : List.of(Sport.values());
+        interval = interval != null ? interval : Duration.ofMinutes(1);
+        window = window != null ? window : Duration.ofHours(2);
+        scoreLead = scoreLead != null ? scoreLead : Duration.ofMinutes(10);
+        scheduleRefresh = scheduleRefresh != null ? scheduleRefresh : Duration.ofMinutes(30);
+        maxRequestsPerRun = maxRequestsPerRun != null ? maxRequestsPerRun : 20;
+        minSpareTokens = minSpareTokens != null ? minSpareTokens : 2.0;
+    }
+}
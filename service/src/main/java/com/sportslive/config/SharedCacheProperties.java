@@ -0,0 +1,38 @@
+package com.sportslive.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.shared")
+public record SharedCacheProperties(
+        Mode mode,
+        String keyPrefix,
+        String channel,
+        Long maximumSize,
+        Redis redis) {
+
+    public SharedCacheProperties {
+        mode = mode != null ? mode : Mode.NONE;
+        keyPrefix = keyPrefix != null ? keyPrefix : "sports-live";
+        channel = channel != null ? channel : keyPrefix + ":cache-invalidation";
+        maximumSize = maximumSize != null ? maximumSize : 10_000L;
+        redis = redis != null ? redis : Redis.DEFAULT;
+    }
+
+    public enum Mode {
+        NONE,
+        LOCAL,
+        REDIS
+    }
+
+    public record Redis(String uri, Duration timeout) {
+
+        static final Redis DEFAULT = new Redis(null, null);
+
+        public Redis {
+            uri = uri != null ? uri : "redis://localhost:6379";
+            timeout = timeout != null ? timeout : Duration.ofMillis(500);
+        }
+    }
+}
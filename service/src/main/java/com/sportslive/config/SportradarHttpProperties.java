@@ -0,0 +1,49 @@
+package com.sportslive.config;
+
+import com.sportslive.domain.model.Sport;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "sportradar.http")
+public record SportradarHttpProperties(
+        Pool defaults,
+        Map<String, Pool> hosts) {
+
+    public SportradarHttpProperties {
+        defaults = defaults != null ? defaults.withDefaults(Pool.DEFAULT) : Pool.DEFAULT;
+        hosts = hosts != null ? hosts : Map.of();
+    }
+
+    public Pool pool(Sport sport) {
+        Pool pool = hosts.get(sport.getCode());
+        return pool != null ? pool.withDefaults(defaults) : defaults;
+    }
+
+    public record Pool(
+            Integer maxConnections,
+            Integer pendingAcquireMaxCount,
+            Duration pendingAcquireTimeout,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration evictInBackground,
+            Boolean keepAlive,
+            Boolean http2) {
+
+        static final Pool DEFAULT = new Pool(50, 200, Duration.ofSeconds(2), Duration.ofSeconds(30),
+                Duration.ofMinutes(5), Duration.ofSeconds(30), true, true);
+
+        Pool withDefaults(Pool defaults) {
+            return new Pool(
+                    maxConnections != null ? maxConnections : defaults.maxConnections(),
+                    pendingAcquireMaxCount != null ? pendingAcquireMaxCount : defaults.pendingAcquireMaxCount(),
+                    pendingAcquireTimeout != null ? pendingAcquireTimeout : defaults.pendingAcquireTimeout(),
+                    maxIdleTime != null ? maxIdleTime : defaults.maxIdleTime(),
+                    maxLifeTime != null ? maxLifeTime : defaults.maxLifeTime(),
+                    evictInBackground != null ? evictInBackground : defaults.evictInBackground(),
+                    keepAlive != null ? keepAlive : defaults.keepAlive(),
+                    http2 != null ? http2 : defaults.http2());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sportslive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class StreamConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService streamPollerScheduler(@Value("${stream.poller-threads:4}") int threads) {
+        return Executors.newScheduledThreadPool(threads, new CustomizableThreadFactory("stream-poller-"));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService streamSenderExecutor(
+            @Value("${stream.sender-threads:16}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stream-sender-", 0).factory())
+                : Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("stream-sender-"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.sportslive.config;
+
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "sportradar.scheduler")
+public record UpstreamSchedulerProperties(
+        boolean enabled,
+        Limit defaults,
+        Map<String, Limit> upstreams,
+        Map<UpstreamPriority, Duration> deadlines,
+        Long monthlyQuota,
+        Double reserveRatio) {
+
+    private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(1);
+
+    public UpstreamSchedulerProperties {
+        defaults = defaults != null ? defaults.withDefaults(Limit.DEFAULT) : Limit.DEFAULT;
+        upstreams = upstreams != null ? upstreams : Map.of();
+        deadlines = deadlines != null && !deadlines.isEmpty() ? new EnumMap<>(deadlines) : Map.of();
+        monthlyQuota = monthlyQuota != null ? monthlyQuota : 0L;
+        reserveRatio = reserveRatio != null ? reserveRatio : 0.1;
+    }
+
+    public Limit limit(Sport sport) {
+        Limit limit = upstreams.get(sport.getCode());
+        return limit != null ? limit.withDefaults(defaults) : defaults;
+    }
+
+    public Duration deadline(UpstreamPriority priority) {
+        return deadlines.getOrDefault(priority, DEFAULT_DEADLINE);
+    }
+
+    public record Limit(
+            Double rate,
+            Integer burst) {
+
+        static final Limit DEFAULT = new Limit(5.0, 10);
+
+        Limit withDefaults(Limit defaults) {
+            return new Limit(
+                    rate != null ? rate : defaults.rate(),
+                    burst != null ? burst : defaults.burst());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.sportslive.domain.model;
+
+import java.util.List;
+
+public record TimelineDelta(
+        String eventId,
+        List<TimelineEvent> events,
+        String cursor,
+        boolean reset,
+        CoverageMetadata coverage) {
+}
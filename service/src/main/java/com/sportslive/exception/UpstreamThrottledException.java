@@ -0,0 +1,8 @@
+package com.sportslive.exception;
+
+public class UpstreamThrottledException extends ExternalServiceException {
+
+    public UpstreamThrottledException(String message) {
+        super(message, "throttled");
+    }
+}
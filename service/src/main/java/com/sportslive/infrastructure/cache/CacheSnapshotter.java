@@ -0,0 +1,234 @@
+package com.sportslive.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// File layout: [magic][version][created-at millis][entry count], then per entry
+// [cache name][Smile key][expires-at millis][Smile value], each byte field prefixed by its length.
+@Component
+public class CacheSnapshotter implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheSnapshotter.class);
+
+    private static final int MAGIC = 0x534C4353;
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + Long.BYTES + Integer.BYTES;
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final CoalescingCacheFactory cacheFactory;
+    private final ObjectMapper smileMapper;
+    private final boolean enabled;
+    private final Path path;
+    private final Duration interval;
+    private final Duration minRemaining;
+    private final Timer writeTimer;
+    private final Counter restored;
+    private final Counter skipped;
+    private ScheduledExecutorService timer;
+
+    public CacheSnapshotter(
+            CoalescingCacheFactory cacheFactory,
+            Jackson2ObjectMapperBuilder mapperBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${cache.snapshot.enabled:false}") boolean enabled,
+            @Value("${cache.snapshot.path:data/cache-snapshot.bin}") Path path,
+            @Value("${cache.snapshot.interval:30s}") Duration interval,
+            @Value("${cache.snapshot.min-remaining:1s}") Duration minRemaining) {
+        this.cacheFactory = cacheFactory;
+        this.smileMapper = mapperBuilder.factory(new SmileFactory()).build();
+        this.enabled = enabled;
+        this.path = path;
+        this.interval = interval;
+        this.minRemaining = minRemaining;
+        this.writeTimer = Timer.builder("cache.snapshot.write")
+                .description("Time spent writing the warm-restart cache snapshot")
+                .register(meterRegistry);
+        this.restored = Counter.builder("cache.snapshot.restored")
+                .description("Cache entries reloaded from the snapshot at startup")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("cache.snapshot.skipped")
+                .description("Snapshot entries dropped at startup because they expired or could not be read")
+                .register(meterRegistry);
+    }
+
+    // Runs once every cache exists and before the web server starts, so the node only reports ready when warm.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        restore();
+        timer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("cache-snapshot-"));
+        timer.scheduleWithFixedDelay(this::snapshotQuietly, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (timer == null) {
+            return;
+        }
+        timer.shutdown();
+        snapshotQuietly();
+    }
+
+    // Entries are streamed to the file as they are visited, so a snapshot never holds a copy of the caches
+    // in memory; the entry count is only known at the end and is patched into the header before the move.
+    // Synchronized because the final snapshot on shutdown can overlap a scheduled one and both use the .tmp file.
+    synchronized void snapshot() throws IOException {
+        long now = System.currentTimeMillis();
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES));
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(now);
+            out.writeInt(0);
+            for (CoalescingCache<?, ?> cache : cacheFactory.getCaches()) {
+                count += write(cache, out, now);
+            }
+            out.flush();
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, count), HEADER_BYTES - Integer.BYTES);
+            channel.force(false);
+        }
+        // Readers never see a half-written file: the previous snapshot stays in place until the move.
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Wrote {} cache entries to snapshot {}", count, path);
+    }
+
+    void restore() {
+        if (!Files.isRegularFile(path)) {
+            log.info("No cache snapshot at {}, starting cold", path);
+            return;
+        }
+        Map<String, CoalescingCache<?, ?>> caches = cacheFactory.getCaches().stream()
+                .collect(Collectors.toMap(CoalescingCache::getName, Function.identity()));
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+        int dropped = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_BYTES))) {
+            if (Files.size(path) < HEADER_BYTES || in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                log.warn("Ignoring cache snapshot {} with unknown format", path);
+                return;
+            }
+            long createdAt = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = new String(bytes(in), StandardCharsets.UTF_8);
+                byte[] key = bytes(in);
+                long remaining = in.readLong() - now;
+                byte[] value = bytes(in);
+                CoalescingCache<?, ?> cache = caches.get(name);
+                if (cache == null || cache.getKeyType() == null || remaining < minRemaining.toMillis()) {
+                    dropped++;
+                    continue;
+                }
+                try {
+                    restore(cache, key, value, remaining);
+                    loaded++;
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Skipping unreadable {} snapshot entry: {}", name, e.getMessage());
+                    dropped++;
+                }
+            }
+            log.info("Restored {} cache entries from snapshot {} taken {}s ago ({} expired or unreadable)",
+                    loaded, path, Duration.ofMillis(now - createdAt).toSeconds(), dropped);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read cache snapshot {}, starting with {} entries: {}", path, loaded, e.getMessage());
+        } finally {
+            restored.increment(loaded);
+            skipped.increment(dropped);
+        }
+    }
+
+    private void snapshotQuietly() {
+        Timer.Sample sample = Timer.start();
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write cache snapshot {}: {}", path, e.getMessage());
+        } finally {
+            sample.stop(writeTimer);
+        }
+    }
+
+    private <K extends EventCacheKey, V> int write(CoalescingCache<K, V> cache, DataOutputStream out, long now) {
+        if (cache.getKeyType() == null) {
+            return 0;
+        }
+        byte[] name = cache.getName().getBytes(StandardCharsets.UTF_8);
+        int[] count = {0};
+        cache.forEachEntry((key, value, remainingNanos) -> {
+            try {
+                byte[] keyBytes = smileMapper.writeValueAsBytes(key);
+                byte[] valueBytes = smileMapper.writeValueAsBytes(value);
+                writeBytes(out, name);
+                writeBytes(out, keyBytes);
+                out.writeLong(now + TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                writeBytes(out, valueBytes);
+                count[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return count[0];
+    }
+
+    private <K extends EventCacheKey, V> void restore(CoalescingCache<K, V> cache, byte[] key, byte[] value,
+            long remainingMillis) throws IOException {
+        cache.restore(smileMapper.readValue(key, cache.getKeyType()), smileMapper.readValue(value, cache.getValueType()),
+                TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] bytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,210 @@
+package com.sportslive.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public class CoalescingCache<K extends EventCacheKey, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingCache.class);
+
+    private final String name;
+    private final AsyncLoadingCache<K, V> cache;
+    private final StatusAwareExpiry<K, V> expiry;
+    private final SharedCacheTier<K, V> sharedTier;
+    private final Class<K> keyType;
+    private final Class<V> valueType;
+    private final BiFunction<K, V, V> adopt;
+    private final Counter requests;
+    private final Counter coalesced;
+    private final Counter refreshAhead;
+    private final Counter staleServed;
+    private final Timer waitTimer;
+
+    public CoalescingCache(String name, AsyncLoadingCache<K, V> cache, StatusAwareExpiry<K, V> expiry,
+            MeterRegistry meterRegistry) {
+        this(name, cache, expiry, null, null, null, (key, value) -> value, meterRegistry);
+    }
+
+    CoalescingCache(String name, AsyncLoadingCache<K, V> cache, StatusAwareExpiry<K, V> expiry,
+            SharedCacheTier<K, V> sharedTier, Class<K> keyType, Class<V> valueType, BiFunction<K, V, V> adopt,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.cache = cache;
+        this.expiry = expiry;
+        this.sharedTier = sharedTier;
+        this.keyType = keyType;
+        this.valueType = valueType;
+        this.adopt = adopt;
+        this.requests = Counter.builder("cache.coalescing.requests")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("cache.coalescing.joined")
+                .description("Requests that joined an upstream load already in flight")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.refreshAhead = Counter.builder("cache.refresh.ahead")
+                .description("Reads that started or joined a background reload ahead of expiry")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("cache.stale.served")
+                .description("Reads answered with a value past its TTL while a reload was pending")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("cache.coalescing.wait")
+                .description("Time callers spent waiting for an in-flight load")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(K key) {
+        requests.increment();
+        CompletableFuture<V> inFlight = cache.getIfPresent(key);
+        if (inFlight != null && !inFlight.isDone()) {
+            coalesced.increment();
+        }
+
+        CompletableFuture<V> future = cache.get(key);
+        if (future.isDone()) {
+            V value = join(future);
+            refreshIfDue(key, value);
+            return value;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            return join(future);
+        } finally {
+            sample.stop(waitTimer);
+        }
+    }
+
+    public Mono<V> getAsync(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            requests.increment();
+            CompletableFuture<V> inFlight = cache.getIfPresent(key);
+            if (inFlight != null && !inFlight.isDone()) {
+                coalesced.increment();
+            }
+            Function<K, Mono<V>> effective = sharedTier != null ? k -> sharedTier.loadAsync(k, loader) : loader;
+            CompletableFuture<V> future = cache.get(key, (k, executor) -> effective.apply(k).toFuture());
+            return Mono.fromFuture(future)
+                    .doOnNext(value -> refreshIfDue(key, value));
+        });
+    }
+
+    public V getIfReady(K key) {
+        CompletableFuture<V> future = cache.getIfPresent(key);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.getNow(null);
+    }
+
+    public void invalidate(K key) {
+        cache.synchronous().invalidate(key);
+        if (sharedTier != null) {
+            sharedTier.invalidate(key);
+        }
+    }
+
+    public void refresh(K key) {
+        cache.synchronous().refresh(key).exceptionally(t -> {
+            log.warn("Refresh of {} entry {} failed: {}", name, key, t.getMessage());
+            return null;
+        });
+    }
+
+    void refreshFromShared(K key) {
+        if (cache.getIfPresent(key) == null) {
+            return;
+        }
+        cache.synchronous().refresh(key).exceptionally(t -> {
+            log.warn("Refresh of {} entry {} from shared cache failed: {}", name, key, t.getMessage());
+            return null;
+        });
+    }
+
+    void evictLocal(K key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    Class<K> getKeyType() {
+        return keyType;
+    }
+
+    Class<V> getValueType() {
+        return valueType;
+    }
+
+    // Only completed loads are visited, with the time each one has left before it expires.
+    void forEachEntry(EntryVisitor<K, V> visitor) {
+        cache.synchronous().policy().expireVariably().ifPresent(expiration ->
+                cache.synchronous().asMap().forEach((key, value) ->
+                        expiration.getExpiresAfter(key, TimeUnit.NANOSECONDS)
+                                .ifPresent(remaining -> visitor.visit(key, value, remaining))));
+    }
+
+    void restore(K key, V value, long remainingNanos) {
+        cache.synchronous().policy().expireVariably().ifPresent(expiration ->
+                expiration.putIfAbsent(key, adopt.apply(key, value), remainingNanos, TimeUnit.NANOSECONDS));
+    }
+
+    public AsyncLoadingCache<K, V> getNativeCache() {
+        return cache;
+    }
+
+    private void refreshIfDue(K key, V value) {
+        if (value == null || !expiry.isRefreshAhead()) {
+            return;
+        }
+        OptionalLong remaining = cache.synchronous().policy().expireVariably()
+                .map(expiration -> expiration.getExpiresAfter(key, TimeUnit.NANOSECONDS))
+                .orElse(OptionalLong.empty());
+        if (remaining.isEmpty()) {
+            return;
+        }
+
+        Freshness freshness = expiry.freshness(key, value, remaining.getAsLong());
+        if (freshness == Freshness.FRESH) {
+            return;
+        }
+        if (freshness == Freshness.STALE) {
+            staleServed.increment();
+        }
+        refreshAhead.increment();
+        cache.synchronous().refresh(key).exceptionally(t -> {
+            log.warn("Refresh of {} entry {} failed, keeping current value: {}", name, key, t.getMessage());
+            return null;
+        });
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    interface EntryVisitor<K, V> {
+        void visit(K key, V value, long remainingNanos);
+    }
+}
@@ -0,0 +1,101 @@
+package com.sportslive.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.config.SharedCacheProperties;
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.infrastructure.cache.shared.SharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Component
+public class CoalescingCacheFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingCacheFactory.class);
+
+    private final CaffeineCacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+    private final Executor loaderExecutor;
+    private final MeterRegistry meterRegistry;
+    private final SharedCache sharedCache;
+    private final SharedValueCodec sharedCodec;
+    private final String sharedKeyPrefix;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<CoalescingCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public CoalescingCacheFactory(
+            CaffeineCacheManager cacheManager,
+            CacheProperties cacheProperties,
+            @Qualifier("cacheLoaderExecutor") Executor loaderExecutor,
+            MeterRegistry meterRegistry,
+            ObjectProvider<SharedCache> sharedCache,
+            SharedValueCodec sharedCodec,
+            SharedCacheProperties sharedProperties) {
+        this.cacheManager = cacheManager;
+        this.cacheProperties = cacheProperties;
+        this.loaderExecutor = loaderExecutor;
+        this.meterRegistry = meterRegistry;
+        this.sharedCache = sharedCache.getIfAvailable();
+        this.sharedCodec = sharedCodec;
+        this.sharedKeyPrefix = sharedProperties.keyPrefix();
+        if (this.sharedCache != null) {
+            log.info("Event caches backed by shared {} tier, node {}", this.sharedCache.getName(), nodeId);
+        }
+    }
+
+    public <K extends EventCacheKey, V> CoalescingCache<K, V> create(String name, Class<K> keyType,
+            Class<V> type, Function<K, V> loader, BiFunction<K, V, EventStatus> statusResolver) {
+        return create(name, keyType, type, loader, statusResolver, (key, value) -> value);
+    }
+
+    // adopt lets a cache fold a value loaded from the shared tier or a snapshot into node-local state before it is cached.
+    @SuppressWarnings("unchecked")
+    public <K extends EventCacheKey, V> CoalescingCache<K, V> create(String name, Class<K> keyType,
+            Class<V> type, Function<K, V> loader, BiFunction<K, V, EventStatus> statusResolver,
+            BiFunction<K, V, V> adopt) {
+        CacheProperties.Policy policy = cacheProperties.policy(name);
+        StatusAwareExpiry<K, V> expiry = new StatusAwareExpiry<>(policy, statusResolver);
+        SharedCacheTier<K, V> sharedTier = sharedCache != null
+                ? new SharedCacheTier<>(name, type, sharedCache, sharedCodec, expiry, adopt, nodeId, sharedKeyPrefix,
+                        meterRegistry)
+                : null;
+        Function<K, V> effective = sharedTier != null ? key -> sharedTier.load(key, loader) : loader;
+        AsyncLoadingCache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(policy.maximumSize())
+                .expireAfter(expiry)
+                .executor(loaderExecutor)
+                .recordStats()
+                .buildAsync(effective::apply);
+
+        cacheManager.registerCustomCache(name, (AsyncCache<Object, Object>) (AsyncCache<?, ?>) cache);
+        // Bound here because Boot's registrar only sees caches that exist when it runs; same tags, so no duplicates.
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), name, "cache.manager", "cacheManager");
+        CoalescingCache<K, V> coalescingCache = new CoalescingCache<>(name, cache, expiry, sharedTier, keyType, type,
+                adopt, meterRegistry);
+        if (sharedTier != null) {
+            sharedTier.listen(coalescingCache::refreshFromShared, coalescingCache::evictLocal);
+        }
+        caches.add(coalescingCache);
+        return coalescingCache;
+    }
+
+    List<CoalescingCache<?, ?>> getCaches() {
+        return List.copyOf(caches);
+    }
+}
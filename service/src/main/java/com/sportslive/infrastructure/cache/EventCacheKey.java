@@ -0,0 +1,14 @@
+package com.sportslive.infrastructure.cache;
+
+import com.sportslive.domain.model.Sport;
+
+public interface EventCacheKey {
+
+    Sport sport();
+
+    String eventId();
+
+    default String sharedKey() {
+        return sport().getCode() + ":" + eventId();
+    }
+}
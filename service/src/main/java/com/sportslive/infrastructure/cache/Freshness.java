@@ -0,0 +1,7 @@
+package com.sportslive.infrastructure.cache;
+
+public enum Freshness {
+    FRESH,
+    REFRESH_DUE,
+    STALE
+}
@@ -0,0 +1,33 @@
+package com.sportslive.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class MappedPayloadCache {
+
+    // Keyed by payload identity: an unchanged upstream document comes back as the same map instance.
+    private final Cache<Map<String, Object>, Map<View, Object>> mapped = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Map<String, Object> payload, String resource, Object variant, Supplier<T> mapping) {
+        Map<View, Object> views = mapped.get(payload, key -> new ConcurrentHashMap<>());
+        View view = new View(resource, variant);
+        Object result = views.get(view);
+        if (result == null) {
+            result = mapping.get();
+            views.putIfAbsent(view, result);
+        }
+        return (T) result;
+    }
+
+    record View(String resource, Object variant) {
+    }
+}
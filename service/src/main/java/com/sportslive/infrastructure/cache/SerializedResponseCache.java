@@ -0,0 +1,92 @@
+package com.sportslive.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class SerializedResponseCache {
+
+    private static final int TAG_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzip;
+    private final int gzipMinSize;
+    // Weak keys compare by identity: each cached value instance is serialized once, and its bytes go away
+    // with it when the owning cache entry is reloaded or invalidated, so stale bytes can never be served.
+    private final Cache<Object, SerializedResponse> responses = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public SerializedResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${api.serialized-cache.enabled:true}") boolean enabled,
+            @Value("${api.serialized-cache.gzip:true}") boolean gzip,
+            @Value("${api.serialized-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzip = gzip;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    public SerializedResponse get(Object value) {
+        return responses.get(value, this::serialize);
+    }
+
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || (tag.startsWith("W/") && tag.substring(2).equals(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SerializedResponse serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, TAG_BYTES) + "\"";
+            if (!enabled) {
+                return new SerializedResponse(etag, null, null);
+            }
+            return new SerializedResponse(etag, json, gzip && json.length >= gzipMinSize ? gzip(json) : null);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record SerializedResponse(String etag, byte[] json, byte[] gzip) {
+
+        // Same content, different bytes: each encoding of it needs its own strong tag.
+        public String etag(String variant) {
+            return etag.substring(0, etag.length() - 1) + "-" + variant + "\"";
+        }
+    }
+}
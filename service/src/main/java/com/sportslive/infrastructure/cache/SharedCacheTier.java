@@ -0,0 +1,151 @@
+package com.sportslive.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportslive.infrastructure.cache.shared.SharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec.SharedValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+class SharedCacheTier<K extends EventCacheKey, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedCacheTier.class);
+
+    private static final String UPDATED = "U";
+    private static final String INVALIDATED = "I";
+
+    private final String name;
+    private final Class<V> type;
+    private final SharedCache shared;
+    private final SharedValueCodec codec;
+    private final StatusAwareExpiry<K, V> expiry;
+    private final BiFunction<K, V, V> adopt;
+    private final String nodeId;
+    private final String prefix;
+    private final MeterRegistry meterRegistry;
+    // Local keys by shared key, so invalidation messages can be mapped back; weak values follow the L1 entries.
+    private final Cache<String, K> keys = Caffeine.newBuilder().weakValues().build();
+    private final Cache<String, V> latest = Caffeine.newBuilder().weakValues().build();
+
+    SharedCacheTier(String name, Class<V> type, SharedCache shared, SharedValueCodec codec,
+            StatusAwareExpiry<K, V> expiry, BiFunction<K, V, V> adopt, String nodeId, String keyPrefix,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.type = type;
+        this.shared = shared;
+        this.codec = codec;
+        this.expiry = expiry;
+        this.adopt = adopt;
+        this.nodeId = nodeId;
+        this.prefix = keyPrefix + ":" + name + ":";
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Only values from a completed upstream load reach L2; a failed load throws before anything is written.
+    V load(K key, Function<K, V> upstream) {
+        V cached = read(key);
+        if (cached != null) {
+            return cached;
+        }
+        V value = upstream.apply(key);
+        if (value != null) {
+            write(key, value);
+        }
+        return value;
+    }
+
+    Mono<V> loadAsync(K key, Function<K, Mono<V>> upstream) {
+        return Mono.fromCallable(() -> read(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.defer(() -> upstream.apply(key)
+                        .doOnNext(value -> Schedulers.boundedElastic().schedule(() -> write(key, value)))));
+    }
+
+    void invalidate(K key) {
+        String sharedKey = sharedKey(key);
+        try {
+            shared.evict(sharedKey);
+            shared.publish(message(INVALIDATED, sharedKey));
+        } catch (RuntimeException e) {
+            log.warn("Failed to invalidate {} entry {} in shared cache: {}", name, sharedKey, e.getMessage());
+            record("error");
+        }
+    }
+
+    void listen(Consumer<K> onUpdated, Consumer<K> onInvalidated) {
+        shared.subscribe(message -> {
+            String[] parts = message.split(" ", 3);
+            if (parts.length < 3 || parts[0].equals(nodeId) || !parts[2].startsWith(prefix)) {
+                return;
+            }
+            K key = keys.getIfPresent(parts[2]);
+            if (key != null) {
+                (INVALIDATED.equals(parts[1]) ? onInvalidated : onUpdated).accept(key);
+            }
+        });
+    }
+
+    private V read(K key) {
+        String sharedKey = sharedKey(key);
+        keys.put(sharedKey, key);
+        try {
+            byte[] bytes = shared.get(sharedKey);
+            SharedValue<V> entry = bytes != null ? codec.decode(bytes, type) : null;
+            if (entry == null || !expiry.isFreshShared(key, entry.value(),
+                    Duration.ofMillis(System.currentTimeMillis() - entry.writtenAt()))) {
+                record("miss");
+                return null;
+            }
+            record("hit");
+            V value = adopt.apply(key, entry.value());
+            latest.put(sharedKey, value);
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read {} entry {} from shared cache: {}", name, sharedKey, e.getMessage());
+            record("error");
+            return null;
+        }
+    }
+
+    private void write(K key, V value) {
+        String sharedKey = sharedKey(key);
+        // An unchanged reload returns the same instance: extend the shared entry without waking other nodes.
+        boolean changed = latest.asMap().put(sharedKey, value) != value;
+        try {
+            shared.put(sharedKey, codec.encode(value, System.currentTimeMillis()), expiry.lifetime(key, value));
+            if (changed) {
+                shared.publish(message(UPDATED, sharedKey));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} entry {} to shared cache: {}", name, sharedKey, e.getMessage());
+            record("error");
+        }
+    }
+
+    private String sharedKey(K key) {
+        return prefix + key.sharedKey();
+    }
+
+    private String message(String operation, String sharedKey) {
+        return nodeId + " " + operation + " " + sharedKey;
+    }
+
+    private void record(String result) {
+        Counter.builder("cache.shared.requests")
+                .tag("cache", name)
+                .tag("tier", shared.getName())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,70 @@
+package com.sportslive.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.domain.model.EventStatus;
+
+import java.time.Duration;
+import java.util.function.BiFunction;
+
+public class StatusAwareExpiry<K extends EventCacheKey, V> implements Expiry<K, V> {
+
+    private final CacheProperties.Policy policy;
+    private final BiFunction<K, V, EventStatus> statusResolver;
+
+    public StatusAwareExpiry(CacheProperties.Policy policy, BiFunction<K, V, EventStatus> statusResolver) {
+        this.policy = policy;
+        this.statusResolver = statusResolver;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return lifetime(key, value).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return lifetime(key, value).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    public boolean isRefreshAhead() {
+        return policy.refresh().enabled();
+    }
+
+    // Entries live for ttl + grace; the ratio marks when a read should start a background reload
+    // and anything past ttl is only served stale while that reload is pending.
+    public Freshness freshness(K key, V value, long remainingNanos) {
+        if (!isRefreshAhead()) {
+            return Freshness.FRESH;
+        }
+        long ttl = ttl(key, value).toNanos();
+        long grace = policy.refresh().staleGrace().toNanos();
+        long age = ttl + grace - remainingNanos;
+        if (age >= ttl) {
+            return Freshness.STALE;
+        }
+        return age >= (long) (ttl * policy.refresh().afterRatio()) ? Freshness.REFRESH_DUE : Freshness.FRESH;
+    }
+
+    // A value written by another node is only adopted while young enough that, by the time this node would
+    // refresh it, it is no older than the TTL.
+    public boolean isFreshShared(K key, V value, Duration age) {
+        long ttl = ttl(key, value).toNanos();
+        return age.toNanos() < (long) (ttl * (1 - policy.refresh().afterRatio()));
+    }
+
+    Duration lifetime(K key, V value) {
+        Duration ttl = ttl(key, value);
+        return isRefreshAhead() ? ttl.plus(policy.refresh().staleGrace()) : ttl;
+    }
+
+    private Duration ttl(K key, V value) {
+        EventStatus status = statusResolver.apply(key, value);
+        return policy.ttlFor(key.sport(), status != null ? status : EventStatus.UNKNOWN);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sportslive.infrastructure.cache.shared;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class InProcessSharedCache implements SharedCache {
+
+    private final Cache<String, Entry> entries;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public InProcessSharedCache(long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, Entry>writing((key, entry) -> entry.ttl()))
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        entries.put(key, new Entry(value, ttl));
+    }
+
+    @Override
+    public void evict(String key) {
+        entries.invalidate(key);
+    }
+
+    @Override
+    public void publish(String message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    record Entry(byte[] value, Duration ttl) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.sportslive.infrastructure.cache.shared;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class RedisSharedCache implements SharedCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSharedCache.class);
+
+    private final RedisClient client;
+    private final StatefulRedisConnection<String, byte[]> connection;
+    private final StatefulRedisPubSubConnection<String, String> subscriptions;
+    private final String channel;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisSharedCache(String uri, String channel, Duration timeout) {
+        this.channel = channel;
+        this.client = RedisClient.create(uri);
+        this.client.setDefaultTimeout(timeout);
+        this.connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        this.subscriptions = client.connectPubSub();
+        this.subscriptions.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String from, String message) {
+                listeners.forEach(listener -> listener.accept(message));
+            }
+        });
+        this.subscriptions.sync().subscribe(channel);
+        log.info("Shared cache connected to Redis, invalidation channel {}", channel);
+    }
+
+    @Override
+    public String getName() {
+        return "redis";
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return connection.sync().get(key);
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        connection.sync().set(key, value, SetArgs.Builder.px(ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(String key) {
+        connection.sync().del(key);
+    }
+
+    @Override
+    public void publish(String message) {
+        connection.async().publish(channel, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    public void close() {
+        subscriptions.close();
+        connection.close();
+        client.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sportslive.infrastructure.cache.shared;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+public interface SharedCache {
+
+    String getName();
+
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void evict(String key);
+
+    void publish(String message);
+
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,49 @@
+package com.sportslive.infrastructure.cache.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+// Values are stored as [format version][written-at epoch millis][Smile body].
+public class SharedValueCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 1 + Long.BYTES;
+
+    private final ObjectMapper smileMapper;
+
+    public SharedValueCodec(ObjectMapper smileMapper) {
+        this.smileMapper = smileMapper;
+    }
+
+    public byte[] encode(Object value, long writtenAt) {
+        try {
+            byte[] body = smileMapper.writeValueAsBytes(value);
+            return ByteBuffer.allocate(HEADER_BYTES + body.length)
+                    .put(FORMAT_VERSION)
+                    .putLong(writtenAt)
+                    .put(body)
+                    .array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public <V> SharedValue<V> decode(byte[] bytes, Class<V> type) {
+        if (bytes.length < HEADER_BYTES || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+        try {
+            long writtenAt = ByteBuffer.wrap(bytes, 1, Long.BYTES).getLong();
+            V value = smileMapper.readValue(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES, type);
+            return new SharedValue<>(value, writtenAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record SharedValue<V>(V value, long writtenAt) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.sportslive.infrastructure.cluster;
+
+public record ClusterNode(String id, String url) {
+}
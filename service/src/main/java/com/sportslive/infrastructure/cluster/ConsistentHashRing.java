@@ -0,0 +1,42 @@
+package com.sportslive.infrastructure.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Each node is placed at several points on the ring so that a join or leave only moves the keys
+// between its points and their neighbours, roughly 1/N of the total.
+class ConsistentHashRing {
+
+    private final NavigableMap<Long, ClusterNode> ring = new TreeMap<>();
+
+    ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        for (ClusterNode node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node.id() + "#" + i), node);
+            }
+        }
+    }
+
+    ClusterNode owner(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sportslive.infrastructure.cluster;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryMembership implements Membership {
+
+    private final ClusterNode self;
+    private final Map<String, ClusterNode> members = new ConcurrentHashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public InMemoryMembership(ClusterNode self, Collection<ClusterNode> initial) {
+        this.self = self;
+        initial.forEach(node -> members.put(node.id(), node));
+        members.put(self.id(), self);
+    }
+
+    @Override
+    public ClusterNode self() {
+        return self;
+    }
+
+    @Override
+    public List<ClusterNode> members() {
+        return List.copyOf(members.values());
+    }
+
+    @Override
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void join(ClusterNode node) {
+        if (members.put(node.id(), node) == null) {
+            listeners.forEach(Runnable::run);
+        }
+    }
+
+    public void leave(String nodeId) {
+        if (!nodeId.equals(self.id()) && members.remove(nodeId) != null) {
+            listeners.forEach(Runnable::run);
+        }
+    }
+}
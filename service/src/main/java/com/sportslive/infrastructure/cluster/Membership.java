@@ -0,0 +1,12 @@
+package com.sportslive.infrastructure.cluster;
+
+import java.util.List;
+
+public interface Membership {
+
+    ClusterNode self();
+
+    List<ClusterNode> members();
+
+    void addListener(Runnable listener);
+}
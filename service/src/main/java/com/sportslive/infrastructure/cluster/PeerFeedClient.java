@@ -0,0 +1,48 @@
+package com.sportslive.infrastructure.cluster;
+
+import com.sportslive.config.ClusterProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Component
+public class PeerFeedClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> PAYLOAD_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    public static final String TOKEN_HEADER = "X-Cluster-Token";
+    public static final String PRIORITY_HEADER = "X-Upstream-Priority";
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final String token;
+
+    public PeerFeedClient(WebClient.Builder webClientBuilder, ClusterProperties properties) {
+        this.webClient = webClientBuilder.build();
+        this.timeout = properties.peerTimeout();
+        this.token = properties.token();
+    }
+
+    public Mono<Map<String, Object>> fetch(ClusterNode owner, Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        return webClient.get()
+                .uri(owner.url() + "/internal/feeds/{sport}/{resource}/{id}", sport.name(), resource.name(), id)
+                .header(TOKEN_HEADER, token)
+                .header(PRIORITY_HEADER, priority.name())
+                .accept(SMILE)
+                .retrieve()
+                .bodyToMono(PAYLOAD_TYPE)
+                .timeout(timeout);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportslive.infrastructure.cluster;
+
+import java.util.List;
+
+public class StaticMembership implements Membership {
+
+    private final ClusterNode self;
+    private final List<ClusterNode> members;
+
+    public StaticMembership(ClusterNode self, List<ClusterNode> members) {
+        if (members.stream().noneMatch(member -> member.id().equals(self.id()))) {
+            throw new IllegalStateException("Node " + self.id() + " is not in the static member list " + members);
+        }
+        this.self = self;
+        this.members = List.copyOf(members);
+    }
+
+    @Override
+    public ClusterNode self() {
+        return self;
+    }
+
+    @Override
+    public List<ClusterNode> members() {
+        return members;
+    }
+
+    @Override
+    public void addListener(Runnable listener) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.sportslive.infrastructure.cluster;
+
+import com.sportslive.config.ClusterProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class UpstreamOwnership {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamOwnership.class);
+
+    private final Membership membership;
+    private final PeerFeedClient peers;
+    private final MeterRegistry meterRegistry;
+    private final int virtualNodes;
+    private final Duration suspectFor;
+    private final Map<String, Long> suspectedUntil = new ConcurrentHashMap<>();
+    private volatile ConsistentHashRing ring;
+    private volatile long nextRecovery = Long.MAX_VALUE;
+
+    public UpstreamOwnership(Membership membership, PeerFeedClient peers, ClusterProperties properties,
+            MeterRegistry meterRegistry) {
+        this.membership = membership;
+        this.peers = peers;
+        this.meterRegistry = meterRegistry;
+        this.virtualNodes = properties.virtualNodes();
+        this.suspectFor = properties.suspectFor();
+        rebuild();
+        membership.addListener(this::rebuild);
+        Gauge.builder("cluster.members", membership, m -> m.members().size())
+                .description("Nodes currently known to the membership provider")
+                .register(meterRegistry);
+    }
+
+    public Map<String, Object> fetch(Sport sport, SportradarResource resource, String id, UpstreamPriority priority,
+            Supplier<Map<String, Object>> local) {
+        Optional<ClusterNode> owner = remoteOwner(sport, id);
+        if (owner.isEmpty()) {
+            record(sport, resource, "local");
+            return local.get();
+        }
+        try {
+            Map<String, Object> payload = peers.fetch(owner.get(), sport, resource, id, priority).block();
+            record(sport, resource, "forwarded");
+            return payload;
+        } catch (WebClientResponseException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            suspect(owner.get(), e);
+            record(sport, resource, "fallback");
+            return local.get();
+        }
+    }
+
+    public Mono<Map<String, Object>> fetchReactive(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority, Supplier<Mono<Map<String, Object>>> local) {
+        return Mono.defer(() -> {
+            Optional<ClusterNode> owner = remoteOwner(sport, id);
+            if (owner.isEmpty()) {
+                record(sport, resource, "local");
+                return local.get();
+            }
+            return peers.fetch(owner.get(), sport, resource, id, priority)
+                    .doOnNext(payload -> record(sport, resource, "forwarded"))
+                    .onErrorResume(e -> !(e instanceof WebClientResponseException), e -> {
+                        suspect(owner.get(), e);
+                        record(sport, resource, "fallback");
+                        return local.get();
+                    });
+        });
+    }
+
+    // Empty when this node owns the event, or when the owner is unknown (single node).
+    public Optional<ClusterNode> remoteOwner(Sport sport, String eventId) {
+        if (System.currentTimeMillis() >= nextRecovery) {
+            rebuild();
+        }
+        ClusterNode owner = ring.owner(sport.getCode() + ":" + eventId);
+        if (owner == null || owner.id().equals(membership.self().id()) || owner.url() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(owner);
+    }
+
+    // Unreachable owners are taken off the ring for a while so their events move to the remaining nodes
+    // instead of every node falling back to Sportradar on its own.
+    private void suspect(ClusterNode node, Throwable error) {
+        log.warn("Peer {} ({}) unreachable, suspecting it for {}: {}", node.id(), node.url(), suspectFor,
+                error.getMessage());
+        suspectedUntil.put(node.id(), System.currentTimeMillis() + suspectFor.toMillis());
+        rebuild();
+    }
+
+    private synchronized void rebuild() {
+        long now = System.currentTimeMillis();
+        suspectedUntil.values().removeIf(until -> until <= now);
+        List<ClusterNode> live = membership.members().stream()
+                .filter(node -> !suspectedUntil.containsKey(node.id()))
+                .toList();
+        ring = new ConsistentHashRing(live, virtualNodes);
+        nextRecovery = suspectedUntil.values().stream().min(Long::compare).orElse(Long.MAX_VALUE);
+        log.debug("Ownership ring rebuilt with {} of {} members", live.size(), membership.members().size());
+    }
+
+    private void record(Sport sport, SportradarResource resource, String route) {
+        Counter.builder("cluster.upstream.fetches")
+                .tag("sport", sport.getCode())
+                .tag("resource", resource.getCode())
+                .tag("route", route)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,18 @@
+package com.sportslive.infrastructure.feed;
+
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface FeedProvider {
+
+    String getName();
+
+    Map<String, Object> fetch(Sport sport, SportradarResource resource, String id, UpstreamPriority priority);
+
+    Mono<Map<String, Object>> fetchReactive(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority);
+}
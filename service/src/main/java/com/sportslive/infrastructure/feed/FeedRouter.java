@@ -0,0 +1,274 @@
+package com.sportslive.infrastructure.feed;
+
+import com.sportslive.config.FeedProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.exception.UpstreamThrottledException;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class FeedRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedRouter.class);
+
+    private static final String SUCCESS = "success";
+    private static final String INVALID = "invalid";
+    private static final String ERROR = "error";
+    private static final String CANCELLED = "cancelled";
+    private static final String THROTTLED = "throttled";
+
+    private final Map<String, FeedProvider> providers;
+    private final FeedProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<LatencyKey, ProviderLatency> latencies = new ConcurrentHashMap<>();
+
+    public FeedRouter(List<FeedProvider> providers, FeedProperties properties, MeterRegistry meterRegistry) {
+        this.providers = providers.stream()
+                .collect(Collectors.toMap(FeedProvider::getName, Function.identity()));
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (Sport sport : Sport.values()) {
+            List<String> unknown = properties.routing(sport).providers().stream()
+                    .filter(name -> !this.providers.containsKey(name))
+                    .toList();
+            if (!unknown.isEmpty()) {
+                throw new IllegalStateException("Unknown feed providers for " + sport.getCode() + ": " + unknown
+                        + " (available: " + this.providers.keySet() + ")");
+            }
+        }
+    }
+
+    public Map<String, Object> fetch(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        FeedProperties.Routing routing = properties.routing(sport);
+        if (routing.mode() == RoutingMode.RACE) {
+            return fetchReactive(sport, resource, id, priority).block();
+        }
+
+        UpstreamThrottledException throttled = null;
+        RuntimeException failure = null;
+        for (FeedProvider provider : failoverOrder(sport, routing)) {
+            long start = System.nanoTime();
+            try {
+                Map<String, Object> payload = provider.fetch(sport, resource, id, priority);
+                if (isValid(payload)) {
+                    record(provider, sport, resource, start, SUCCESS);
+                    return selected(new Answer(provider, payload), sport, resource);
+                }
+                record(provider, sport, resource, start, INVALID);
+            } catch (UpstreamThrottledException e) {
+                record(provider, sport, resource, start, THROTTLED);
+                throttled = e;
+            } catch (RuntimeException e) {
+                record(provider, sport, resource, start, ERROR);
+                failure = e;
+                log.warn("Feed provider {} failed for {} {} {}: {}",
+                        provider.getName(), sport.getCode(), resource.getCode(), id, e.getMessage());
+            }
+        }
+        if (throttled != null) {
+            throw throttled;
+        }
+        throw unavailable(sport, resource, id, failure);
+    }
+
+    public Mono<Map<String, Object>> fetchReactive(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        return Mono.defer(() -> {
+            FeedProperties.Routing routing = properties.routing(sport);
+            Request request = new Request(sport, resource, id, priority, new AtomicReference<>(),
+                    new AtomicReference<>());
+            if (routing.mode() == RoutingMode.FAILOVER) {
+                return failover(failoverOrder(sport, routing), request);
+            }
+
+            List<FeedProvider> ranked = fastestFirst(sport, routing);
+            int width = Math.min(routing.raceWidth(), ranked.size());
+            List<FeedProvider> racers = new ArrayList<>(ranked.subList(0, width));
+            List<FeedProvider> remaining = new ArrayList<>(ranked.subList(width, ranked.size()));
+            remaining.stream()
+                    .filter(provider -> latency(provider, sport).claimProbe(routing.probeInterval().toNanos()))
+                    .findFirst()
+                    .ifPresent(probe -> {
+                        remaining.remove(probe);
+                        racers.add(probe);
+                    });
+
+            return Mono.firstWithValue(racers.stream()
+                            .map(provider -> attempt(provider, request))
+                            .toList())
+                    .map(answer -> selected(answer, sport, resource))
+                    .onErrorResume(e -> failover(remaining, request));
+        });
+    }
+
+    private Mono<Map<String, Object>> failover(List<FeedProvider> order, Request request) {
+        return Flux.fromIterable(order)
+                .concatMap(provider -> attempt(provider, request))
+                .next()
+                .map(answer -> selected(answer, request.sport(), request.resource()))
+                .switchIfEmpty(Mono.defer(() -> Mono.error(request.throttled().get() != null
+                        ? request.throttled().get()
+                        : unavailable(request.sport(), request.resource(), request.id(), request.failure().get()))));
+    }
+
+    private Mono<Answer> attempt(FeedProvider provider, Request request) {
+        Sport sport = request.sport();
+        SportradarResource resource = request.resource();
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return provider.fetchReactive(sport, resource, request.id(), request.priority())
+                    .doOnNext(payload -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(provider, sport, resource, start, isValid(payload) ? SUCCESS : INVALID);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (e instanceof UpstreamThrottledException throttled) {
+                            request.throttled().set(throttled);
+                            if (recorded.compareAndSet(false, true)) {
+                                record(provider, sport, resource, start, THROTTLED);
+                            }
+                            return;
+                        }
+                        request.failure().set(e);
+                        if (recorded.compareAndSet(false, true)) {
+                            record(provider, sport, resource, start, ERROR);
+                        }
+                        log.warn("Feed provider {} failed for {} {} {}: {}",
+                                provider.getName(), sport.getCode(), resource.getCode(), request.id(), e.getMessage());
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            record(provider, sport, resource, start, CANCELLED);
+                        }
+                    })
+                    .filter(this::isValid)
+                    .map(payload -> new Answer(provider, payload))
+                    .onErrorResume(e -> Mono.empty());
+        });
+    }
+
+    // Slow providers go last; once per probe-interval one of them goes first instead, so its latency is
+    // measured again and it can be promoted back when it recovers.
+    private List<FeedProvider> failoverOrder(Sport sport, FeedProperties.Routing routing) {
+        long slowNanos = routing.slowThreshold().toNanos();
+        List<FeedProvider> order = new ArrayList<>(routing.providers().stream().map(providers::get).toList());
+        order.sort(Comparator.comparing(provider -> latency(provider, sport).nanos() >= slowNanos));
+        order.stream()
+                .filter(provider -> latency(provider, sport).nanos() >= slowNanos)
+                .filter(provider -> latency(provider, sport).claimProbe(routing.probeInterval().toNanos()))
+                .findFirst()
+                .ifPresent(probe -> {
+                    order.remove(probe);
+                    order.add(0, probe);
+                });
+        return order;
+    }
+
+    private List<FeedProvider> fastestFirst(Sport sport, FeedProperties.Routing routing) {
+        List<FeedProvider> ranked = new ArrayList<>(routing.providers().stream().map(providers::get).toList());
+        ranked.sort(Comparator.comparingLong(provider -> latency(provider, sport).nanos()));
+        return ranked;
+    }
+
+    private boolean isValid(Map<String, Object> payload) {
+        return payload != null && !Boolean.TRUE.equals(payload.get("error"));
+    }
+
+    private void record(FeedProvider provider, Sport sport, SportradarResource resource, long start, String outcome) {
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("feed.provider.requests")
+                .tag("provider", provider.getName())
+                .tag("sport", sport.getCode())
+                .tag("resource", resource.getCode())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        // A race loser is cancelled when the winner answers, so its elapsed time is the winner's latency, not its own.
+        if (THROTTLED.equals(outcome) || CANCELLED.equals(outcome)) {
+            return;
+        }
+        long sample = SUCCESS.equals(outcome)
+                ? elapsed
+                : Math.max(elapsed, properties.routing(sport).slowThreshold().toNanos());
+        latency(provider, sport).record(sample);
+    }
+
+    private Map<String, Object> selected(Answer answer, Sport sport, SportradarResource resource) {
+        countSelection(answer.provider().getName(), sport, resource);
+        return answer.payload();
+    }
+
+    // The last provider error is rethrown as is so callers still map timeouts and open circuits precisely,
+    // and caches see a failed load instead of a payload to map.
+    private RuntimeException unavailable(Sport sport, SportradarResource resource, String id, Throwable failure) {
+        log.warn("No feed provider answered {} {} for id: {}", sport.getCode(), resource.getCode(), id);
+        countSelection("none", sport, resource);
+        if (failure instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new ExternalServiceException("No feed provider answered " + sport.getCode() + " "
+                + resource.getCode() + " " + id, "unavailable", failure);
+    }
+
+    private void countSelection(String provider, Sport sport, SportradarResource resource) {
+        Counter.builder("feed.provider.selected")
+                .tag("provider", provider)
+                .tag("sport", sport.getCode())
+                .tag("resource", resource.getCode())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private ProviderLatency latency(FeedProvider provider, Sport sport) {
+        return latencies.computeIfAbsent(new LatencyKey(provider.getName(), sport), key -> {
+            ProviderLatency latency = new ProviderLatency();
+            Gauge.builder("feed.provider.latency", latency, ProviderLatency::millis)
+                    .tag("provider", key.provider())
+                    .tag("sport", key.sport().getCode())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return latency;
+        });
+    }
+
+    private record Answer(FeedProvider provider, Map<String, Object> payload) {
+    }
+
+    private record Request(
+            Sport sport,
+            SportradarResource resource,
+            String id,
+            UpstreamPriority priority,
+            AtomicReference<UpstreamThrottledException> throttled,
+            AtomicReference<Throwable> failure) {
+    }
+
+    private record LatencyKey(String provider, Sport sport) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.sportslive.infrastructure.feed;
+
+import com.sportslive.config.FeedProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadDecoder;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@Component
+public class FileFeedProvider implements FeedProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(FileFeedProvider.class);
+
+    private final Path directory;
+    private final SportradarPayloadDecoder decoder;
+
+    public FileFeedProvider(FeedProperties properties, SportradarPayloadDecoder decoder) {
+        this.directory = properties.file().directory();
+        this.decoder = decoder;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public Map<String, Object> fetch(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        Path file = directory.resolve(sport.getCode()).resolve(resource.getCode()).resolve(id + ".json");
+        if (!Files.isRegularFile(file)) {
+            throw new ExternalServiceException("No file feed for " + sport.getCode() + " "
+                    + resource.getCode() + " " + id, "unavailable");
+        }
+        log.debug("Reading {} {} for {} from {}", sport.getCode(), resource.getCode(), id, file);
+        try (InputStream in = Files.newInputStream(file)) {
+            return decoder.decode(in, sport, resource);
+        } catch (IOException e) {
+            throw new ExternalServiceException("Failed to read file feed " + file, "unavailable", e);
+        }
+    }
+
+    @Override
+    public Mono<Map<String, Object>> fetchReactive(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        return Mono.fromCallable(() -> fetch(sport, resource, id, priority))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
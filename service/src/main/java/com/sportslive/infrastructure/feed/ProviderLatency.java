@@ -0,0 +1,32 @@
+package com.sportslive.infrastructure.feed;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class ProviderLatency {
+
+    private static final double ALPHA = 0.2;
+
+    private final AtomicLong ewmaNanos = new AtomicLong(-1);
+    private final AtomicLong lastAttempt = new AtomicLong(System.nanoTime());
+
+    void record(long nanos) {
+        lastAttempt.set(System.nanoTime());
+        ewmaNanos.accumulateAndGet(nanos, (current, sample) ->
+                current < 0 ? sample : current + Math.round(ALPHA * (sample - current)));
+    }
+
+    // A demoted provider only gets traffic again through probes; one caller per interval wins the claim.
+    boolean claimProbe(long intervalNanos) {
+        long now = System.nanoTime();
+        long last = lastAttempt.get();
+        return now - last >= intervalNanos && lastAttempt.compareAndSet(last, now);
+    }
+
+    long nanos() {
+        return Math.max(ewmaNanos.get(), 0);
+    }
+
+    double millis() {
+        return nanos() / 1_000_000.0;
+    }
+}
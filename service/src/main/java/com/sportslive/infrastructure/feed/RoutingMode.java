@@ -0,0 +1,6 @@
+package com.sportslive.infrastructure.feed;
+
+public enum RoutingMode {
+    FAILOVER,
+    RACE
+}
@@ -0,0 +1,93 @@
+package com.sportslive.infrastructure.feed;
+
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.cluster.UpstreamOwnership;
+import com.sportslive.infrastructure.sportradar.ReactiveSportradarClient;
+import com.sportslive.infrastructure.sportradar.SportradarClient;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Component
+public class SportradarFeedProvider implements FeedProvider {
+
+    private final SportradarClient client;
+    private final ReactiveSportradarClient reactiveClient;
+    private final UpstreamOwnership ownership;
+
+    public SportradarFeedProvider(SportradarClient client, ReactiveSportradarClient reactiveClient,
+            UpstreamOwnership ownership) {
+        this.client = client;
+        this.reactiveClient = reactiveClient;
+        this.ownership = ownership;
+    }
+
+    @Override
+    public String getName() {
+        return "sportradar";
+    }
+
+    @Override
+    public Map<String, Object> fetch(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        return ownership.fetch(sport, resource, id, priority, () -> fetchLocal(sport, resource, id, priority));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> fetchReactive(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        return ownership.fetchReactive(sport, resource, id, priority,
+                () -> fetchLocalReactive(sport, resource, id, priority));
+    }
+
+    public Map<String, Object> fetchLocal(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        return switch (resource) {
+            case SUMMARY -> switch (sport) {
+                case SOCCER -> client.getSoccerMatch(id, priority);
+                case BASKETBALL -> client.getBasketballGame(id, priority);
+                case TENNIS -> client.getTennisMatch(id, priority);
+            };
+            case TIMELINE -> switch (sport) {
+                case SOCCER -> client.getSoccerTimeline(id, priority);
+                case TENNIS -> client.getTennisTimeline(id, priority);
+                default -> throw unsupported(sport, resource);
+            };
+            case PLAY_BY_PLAY -> {
+                if (sport != Sport.BASKETBALL) {
+                    throw unsupported(sport, resource);
+                }
+                yield client.getBasketballPlayByPlay(id, priority);
+            }
+            case SCHEDULE -> client.getDailySchedule(sport, id, priority);
+        };
+    }
+
+    public Mono<Map<String, Object>> fetchLocalReactive(Sport sport, SportradarResource resource, String id,
+            UpstreamPriority priority) {
+        return switch (resource) {
+            case SUMMARY -> switch (sport) {
+                case SOCCER -> reactiveClient.getSoccerMatch(id, priority);
+                case BASKETBALL -> reactiveClient.getBasketballGame(id, priority);
+                case TENNIS -> reactiveClient.getTennisMatch(id, priority);
+            };
+            case TIMELINE -> switch (sport) {
+                case SOCCER -> reactiveClient.getSoccerTimeline(id, priority);
+                case TENNIS -> reactiveClient.getTennisTimeline(id, priority);
+                default -> Mono.error(unsupported(sport, resource));
+            };
+            case PLAY_BY_PLAY -> sport == Sport.BASKETBALL
+                    ? reactiveClient.getBasketballPlayByPlay(id, priority)
+                    : Mono.error(unsupported(sport, resource));
+            case SCHEDULE -> reactiveClient.getDailySchedule(sport, id, priority);
+        };
+    }
+
+    private IllegalArgumentException unsupported(Sport sport, SportradarResource resource) {
+        return new IllegalArgumentException(
+                "Sportradar has no " + resource.getCode() + " feed for " + sport.getCode());
+    }
+}
@@ -0,0 +1,37 @@
+package com.sportslive.infrastructure.metrics;
+
+import com.sportslive.domain.model.Sport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class MappingMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public MappingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T time(Sport sport, String resource, Supplier<T> mapping) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = mapping.get();
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder("adapter.mapping")
+                    .description("Time spent mapping provider payloads into domain objects")
+                    .tag("sport", sport.getCode())
+                    .tag("resource", resource)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sportslive.infrastructure.sportradar;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class JsonProjection {
+
+    private static final JsonProjection ALL = new JsonProjection(null);
+
+    private final Map<String, JsonProjection> fields;
+
+    private JsonProjection(Map<String, JsonProjection> fields) {
+        this.fields = fields;
+    }
+
+    public static JsonProjection all() {
+        return ALL;
+    }
+
+    public static JsonProjection paths(String... paths) {
+        Map<String, Object> tree = new HashMap<>();
+        for (String path : paths) {
+            add(tree, path.split("\\."), 0);
+        }
+        return fromTree(tree);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public JsonProjection field(String name) {
+        return fields == null ? ALL : fields.get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(Map<String, Object> tree, String[] segments, int index) {
+        String segment = segments[index];
+        Object existing = tree.get(segment);
+        if (index == segments.length - 1) {
+            tree.put(segment, ALL);
+            return;
+        }
+        if (existing == ALL) {
+            return;
+        }
+        Map<String, Object> child = existing != null ? (Map<String, Object>) existing : new HashMap<>();
+        tree.put(segment, child);
+        add(child, segments, index + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonProjection fromTree(Map<String, Object> tree) {
+        Map<String, JsonProjection> fields = new HashMap<>();
+        tree.forEach((name, child) -> fields.put(name,
+                child == ALL ? ALL : fromTree((Map<String, Object>) child)));
+        return new JsonProjection(Map.copyOf(fields));
+    }
+}
@@ -0,0 +1,115 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.UpstreamThrottledException;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Component
+public class ReactiveSportradarClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveSportradarClient.class);
+
+    private final WebClient soccerClient;
+    private final WebClient basketballClient;
+    private final WebClient tennisClient;
+    private final String apiKey;
+    private final MeterRegistry meterRegistry;
+    private final UpstreamValidators validators;
+    private final UpstreamScheduler scheduler;
+    private final SportradarResilience resilience;
+
+    public ReactiveSportradarClient(
+            SportradarWebClients webClients,
+            MeterRegistry meterRegistry,
+            UpstreamValidators validators,
+            UpstreamScheduler scheduler,
+            SportradarResilience resilience,
+            @Value("${sportradar.api-key}") String apiKey) {
+
+        this.apiKey = apiKey;
+        this.meterRegistry = meterRegistry;
+        this.validators = validators;
+        this.scheduler = scheduler;
+        this.resilience = resilience;
+        this.soccerClient = webClients.forSport(Sport.SOCCER);
+        this.basketballClient = webClients.forSport(Sport.BASKETBALL);
+        this.tennisClient = webClients.forSport(Sport.TENNIS);
+    }
+
+    public Mono<Map<String, Object>> getSoccerMatch(String matchId, UpstreamPriority priority) {
+        return fetch(soccerClient, Sport.SOCCER, SportradarResource.SUMMARY,
+                "/sport_events/{id}/summary.json?api_key={key}", matchId, priority);
+    }
+
+    public Mono<Map<String, Object>> getSoccerTimeline(String matchId, UpstreamPriority priority) {
+        return fetch(soccerClient, Sport.SOCCER, SportradarResource.TIMELINE,
+                "/sport_events/{id}/timeline.json?api_key={key}", matchId, priority);
+    }
+
+    public Mono<Map<String, Object>> getBasketballGame(String gameId, UpstreamPriority priority) {
+        return fetch(basketballClient, Sport.BASKETBALL, SportradarResource.SUMMARY,
+                "/games/{id}/summary.json?api_key={key}", gameId, priority);
+    }
+
+    public Mono<Map<String, Object>> getBasketballPlayByPlay(String gameId, UpstreamPriority priority) {
+        return fetch(basketballClient, Sport.BASKETBALL, SportradarResource.PLAY_BY_PLAY,
+                "/games/{id}/pbp.json?api_key={key}", gameId, priority);
+    }
+
+    public Mono<Map<String, Object>> getTennisMatch(String matchId, UpstreamPriority priority) {
+        return fetch(tennisClient, Sport.TENNIS, SportradarResource.SUMMARY,
+                "/sport_events/{id}/summary.json?api_key={key}", matchId, priority);
+    }
+
+    public Mono<Map<String, Object>> getTennisTimeline(String matchId, UpstreamPriority priority) {
+        return fetch(tennisClient, Sport.TENNIS, SportradarResource.TIMELINE,
+                "/sport_events/{id}/timeline.json?api_key={key}", matchId, priority);
+    }
+
+    // date is an ISO day (yyyy-MM-dd, UTC), which doubles as the id for caching and conditional requests.
+    public Mono<Map<String, Object>> getDailySchedule(Sport sport, String date, UpstreamPriority priority) {
+        return switch (sport) {
+            case SOCCER -> fetch(soccerClient, sport, SportradarResource.SCHEDULE,
+                    "/schedules/{id}/schedules.json?api_key={key}", date, priority);
+            case BASKETBALL -> fetch(basketballClient, sport, SportradarResource.SCHEDULE,
+                    "/schedules/{id}/summaries.json?api_key={key}", date, priority);
+            case TENNIS -> fetch(tennisClient, sport, SportradarResource.SCHEDULE,
+                    "/schedules/{id}/summaries.json?api_key={key}", date, priority);
+        };
+    }
+
+    private Mono<Map<String, Object>> fetch(WebClient client, Sport sport, SportradarResource resource,
+            String uri, String id, UpstreamPriority priority) {
+        SportradarResilience.Policies policies = resilience.policies(sport, resource);
+        Mono<Map<String, Object>> request = Mono.defer(() -> {
+                    log.debug("Fetching {} {}: {}", sport.getCode(), resource.getCode(), id);
+                    Counter.builder("sportradar.upstream.calls")
+                            .tag("sport", sport.getCode())
+                            .tag("resource", resource.getCode())
+                            .register(meterRegistry)
+                            .increment();
+                    return validators.exchange(client.get().uri(uri, id, apiKey), sport, resource, id);
+                })
+                .transformDeferred(BulkheadOperator.of(policies.bulkhead()));
+
+        return scheduler.acquireReactive(sport, priority)
+                .then(request)
+                .transformDeferred(CircuitBreakerOperator.of(policies.circuitBreaker()))
+                .transformDeferred(RetryOperator.of(policies.retry()))
+                .doOnError(t -> !(t instanceof UpstreamThrottledException), t -> log.warn(
+                        "Sportradar {} {} failed for id: {}, error: {}",
+                        sport.getCode(), resource.getCode(), id, t.getMessage()));
+    }
+}
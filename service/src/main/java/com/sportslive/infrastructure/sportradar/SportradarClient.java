@@ -0,0 +1,45 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.domain.model.Sport;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Blocking view of ReactiveSportradarClient; scheduling, resilience and metrics live there only.
+@Component
+public class SportradarClient {
+
+    private final ReactiveSportradarClient reactiveClient;
+
+    public SportradarClient(ReactiveSportradarClient reactiveClient) {
+        this.reactiveClient = reactiveClient;
+    }
+
+    public Map<String, Object> getSoccerMatch(String matchId, UpstreamPriority priority) {
+        return reactiveClient.getSoccerMatch(matchId, priority).block();
+    }
+
+    public Map<String, Object> getSoccerTimeline(String matchId, UpstreamPriority priority) {
+        return reactiveClient.getSoccerTimeline(matchId, priority).block();
+    }
+
+    public Map<String, Object> getBasketballGame(String gameId, UpstreamPriority priority) {
+        return reactiveClient.getBasketballGame(gameId, priority).block();
+    }
+
+    public Map<String, Object> getBasketballPlayByPlay(String gameId, UpstreamPriority priority) {
+        return reactiveClient.getBasketballPlayByPlay(gameId, priority).block();
+    }
+
+    public Map<String, Object> getTennisMatch(String matchId, UpstreamPriority priority) {
+        return reactiveClient.getTennisMatch(matchId, priority).block();
+    }
+
+    public Map<String, Object> getTennisTimeline(String matchId, UpstreamPriority priority) {
+        return reactiveClient.getTennisTimeline(matchId, priority).block();
+    }
+
+    public Map<String, Object> getDailySchedule(Sport sport, String date, UpstreamPriority priority) {
+        return reactiveClient.getDailySchedule(sport, date, priority).block();
+    }
+}
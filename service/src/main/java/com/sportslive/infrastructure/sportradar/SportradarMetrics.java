@@ -0,0 +1,92 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.domain.model.Sport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class SportradarMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public SportradarMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Mono<T> timeUpstream(Mono<T> exchange, Sport sport, SportradarResource resource) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean stopped = new AtomicBoolean();
+            return exchange
+                    .doOnSuccess(value -> stopUpstream(sample, stopped, sport, resource, "success"))
+                    .doOnError(e -> stopUpstream(sample, stopped, sport, resource, outcome(e)))
+                    .doOnCancel(() -> stopUpstream(sample, stopped, sport, resource, "cancelled"));
+        });
+    }
+
+    public void recordPayloadSize(Sport sport, SportradarResource resource, long bytes) {
+        DistributionSummary.builder("sportradar.payload.size")
+                .description("Size of Sportradar response bodies")
+                .baseUnit("bytes")
+                .tag("sport", sport.getCode())
+                .tag("resource", resource.getCode())
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    public void recordDecode(long nanos, Sport sport, SportradarResource resource, String mode, String outcome) {
+        Timer.builder("sportradar.decode")
+                .description("Time spent decoding Sportradar response bodies")
+                .tag("sport", sport.getCode())
+                .tag("resource", resource.getCode())
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUnchanged(Sport sport, SportradarResource resource, String reason) {
+        Counter.builder("sportradar.upstream.unchanged")
+                .description("Sportradar responses that matched the previous version and skipped decoding")
+                .tag("sport", sport.getCode())
+                .tag("resource", resource.getCode())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void stopUpstream(Timer.Sample sample, AtomicBoolean stopped, Sport sport,
+            SportradarResource resource, String outcome) {
+        if (stopped.compareAndSet(false, true)) {
+            sample.stop(Timer.builder("sportradar.upstream.requests")
+                    .description("Sportradar request time until the response body is received")
+                    .tag("sport", sport.getCode())
+                    .tag("resource", resource.getCode())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String outcome(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        if (error instanceof TimeoutException || error.getCause() instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (error instanceof WebClientRequestException) {
+            return "connection_error";
+        }
+        return "error";
+    }
+}
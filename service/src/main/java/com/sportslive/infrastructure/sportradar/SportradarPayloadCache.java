@@ -0,0 +1,73 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportslive.domain.model.Sport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Component
+public class SportradarPayloadCache {
+
+    private final AsyncCache<PayloadKey, Map<String, Object>> payloads;
+
+    public SportradarPayloadCache(
+            MeterRegistry meterRegistry,
+            @Value("${sportradar.payload-cache.ttl:2s}") Duration ttl,
+            @Value("${sportradar.payload-cache.maximum-size:2000}") long maximumSize) {
+
+        this.payloads = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, payloads.synchronous(), "sportradar-payloads",
+                "cache.manager", "sportradar");
+    }
+
+    public Map<String, Object> get(Sport sport, SportradarResource resource, String id,
+            Function<String, Map<String, Object>> fetcher) {
+        PayloadKey key = new PayloadKey(sport, resource, id);
+        CompletableFuture<Map<String, Object>> promise = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> existing = payloads.asMap().putIfAbsent(key, promise);
+        if (existing == null) {
+            // Fetch outside the map's compute lock so a blocking call never pins a virtual thread's carrier.
+            try {
+                promise.complete(fetcher.apply(id));
+            } catch (RuntimeException e) {
+                promise.completeExceptionally(e);
+            }
+        }
+        CompletableFuture<Map<String, Object>> future = existing != null ? existing : promise;
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Mono<Map<String, Object>> getReactive(Sport sport, SportradarResource resource, String id,
+            Function<String, Mono<Map<String, Object>>> fetcher) {
+        PayloadKey key = new PayloadKey(sport, resource, id);
+        return Mono.fromFuture(() -> payloads.get(key, (k, executor) -> fetcher.apply(k.id()).toFuture()));
+    }
+
+    public void invalidate(Sport sport, SportradarResource resource, String id) {
+        payloads.synchronous().invalidate(new PayloadKey(sport, resource, id));
+    }
+
+    record PayloadKey(Sport sport, SportradarResource resource, String id) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportslive.domain.model.Sport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SportradarPayloadDecoder {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final SportradarMetrics metrics;
+    private final boolean selective;
+
+    public SportradarPayloadDecoder(
+            ObjectMapper objectMapper,
+            SportradarMetrics metrics,
+            @Value("${sportradar.decoding:full}") String decoding) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.selective = "selective".equalsIgnoreCase(decoding);
+    }
+
+    // The body is buffered in full before parsing, as the conditional path needs it for its digest anyway;
+    // selective decoding saves building the skipped subtrees, not holding the body.
+    public Mono<Map<String, Object>> decode(WebClient.ResponseSpec response, Sport sport,
+            SportradarResource resource) {
+        return metrics.timeUpstream(DataBufferUtils.join(response.bodyToFlux(DataBuffer.class)), sport, resource)
+                .map(buffer -> decode(buffer, sport, resource));
+    }
+
+    public Map<String, Object> decode(InputStream in, Sport sport, SportradarResource resource) throws IOException {
+        if (!selective) {
+            return objectMapper.readValue(in, MAP_TYPE);
+        }
+        return decode(in, SportradarProjections.forResource(sport, resource));
+    }
+
+    Map<String, Object> decode(DataBuffer buffer, Sport sport, SportradarResource resource) {
+        metrics.recordPayloadSize(sport, resource, buffer.readableByteCount());
+        long start = System.nanoTime();
+        String outcome = "error";
+        try (InputStream in = buffer.asInputStream(true)) {
+            Map<String, Object> payload = decode(in, sport, resource);
+            outcome = "success";
+            return payload;
+        } catch (IOException e) {
+            throw new DecodingException("Failed to decode Sportradar payload", e);
+        } finally {
+            metrics.recordDecode(System.nanoTime() - start, sport, resource, selective ? "selective" : "full", outcome);
+        }
+    }
+
+    public Map<String, Object> decode(InputStream in, JsonProjection projection) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodingException("Expected a JSON object from Sportradar");
+            }
+            return readObject(parser, projection);
+        }
+    }
+
+    private Object readValue(JsonParser parser, JsonProjection projection) throws IOException {
+        if (projection.isAll()) {
+            return parser.readValueAs(Object.class);
+        }
+        return switch (parser.currentToken()) {
+            case START_OBJECT -> readObject(parser, projection);
+            case START_ARRAY -> readArray(parser, projection);
+            default -> parser.readValueAs(Object.class);
+        };
+    }
+
+    private Map<String, Object> readObject(JsonParser parser, JsonProjection projection) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            JsonProjection child = projection.field(name);
+            if (child == null) {
+                parser.skipChildren();
+            } else {
+                result.put(name, readValue(parser, child));
+            }
+        }
+        return result;
+    }
+
+    private List<Object> readArray(JsonParser parser, JsonProjection projection) throws IOException {
+        List<Object> result = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            result.add(readValue(parser, projection));
+        }
+        return result;
+    }
+}
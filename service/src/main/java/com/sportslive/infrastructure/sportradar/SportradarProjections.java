@@ -0,0 +1,77 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.domain.model.Sport;
+
+import java.util.Map;
+
+final class SportradarProjections {
+
+    private static final String[] SPORT_EVENT_FIELDS = {
+            "sport_event.id",
+            "sport_event.scheduled",
+            "sport_event.start_time",
+            "sport_event.coverage.live",
+            "sport_event.venue",
+            "sport_event.sport_event_context.competition.id",
+            "sport_event.sport_event_context.competition.name",
+            "sport_event.sport_event_context.round.name",
+            "sport_event.competitors.id",
+            "sport_event.competitors.name",
+            "sport_event.competitors.abbreviation",
+            "sport_event.competitors.country",
+            "sport_event_status"
+    };
+
+    private static final Map<Sport, JsonProjection> SUMMARY_FIELDS = Map.of(
+            Sport.SOCCER, summary(
+                    "statistics.xg",
+                    "statistics.xa",
+                    "statistics.possession"),
+            Sport.BASKETBALL, summary(
+                    "statistics.efg_pct",
+                    "statistics.ts_pct",
+                    "statistics.offensive_rating",
+                    "statistics.defensive_rating",
+                    "statistics.pace"),
+            Sport.TENNIS, summary(
+                    "statistics.first_serve_pct",
+                    "statistics.first_serve_points_won_pct",
+                    "statistics.second_serve_points_won_pct",
+                    "statistics.break_points_converted",
+                    "statistics.break_points_saved",
+                    "statistics.aces",
+                    "statistics.double_faults",
+                    "statistics.winners",
+                    "statistics.unforced_errors"));
+
+    private static final JsonProjection TIMELINE_FIELDS = JsonProjection.paths("timeline");
+
+    private static final JsonProjection PLAY_BY_PLAY_FIELDS = JsonProjection.paths("sport_event_status.play_by_play");
+
+    private static final JsonProjection SCHEDULE_FIELDS = JsonProjection.paths(
+            "schedules.sport_event.id",
+            "schedules.sport_event.scheduled",
+            "schedules.sport_event.start_time",
+            "summaries.sport_event.id",
+            "summaries.sport_event.scheduled",
+            "summaries.sport_event.start_time");
+
+    private SportradarProjections() {
+    }
+
+    static JsonProjection forResource(Sport sport, SportradarResource resource) {
+        return switch (resource) {
+            case SUMMARY -> SUMMARY_FIELDS.get(sport);
+            case TIMELINE -> TIMELINE_FIELDS;
+            case PLAY_BY_PLAY -> PLAY_BY_PLAY_FIELDS;
+            case SCHEDULE -> SCHEDULE_FIELDS;
+        };
+    }
+
+    private static JsonProjection summary(String... statisticsFields) {
+        String[] paths = new String[SPORT_EVENT_FIELDS.length + statisticsFields.length];
+        System.arraycopy(SPORT_EVENT_FIELDS, 0, paths, 0, SPORT_EVENT_FIELDS.length);
+        System.arraycopy(statisticsFields, 0, paths, SPORT_EVENT_FIELDS.length, statisticsFields.length);
+        return JsonProjection.paths(paths);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.domain.model.Sport;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.Registry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+@Component
+public class SportradarResilience {
+
+    private static final String DEFAULT_CONFIG = "default";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Map<String, Policies> policies = new ConcurrentHashMap<>();
+
+    public SportradarResilience(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry,
+            BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryRegistry = retryRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    public Policies policies(Sport sport, SportradarResource resource) {
+        String sportName = "sportradar-" + sport.getCode();
+        String name = sportName + "-" + resource.getCode();
+        return policies.computeIfAbsent(name, key -> new Policies(
+                resolve(circuitBreakerRegistry, key, sportName, circuitBreakerRegistry::circuitBreaker),
+                resolve(retryRegistry, key, sportName, retryRegistry::retry),
+                resolve(bulkheadRegistry, key, sportName, bulkheadRegistry::bulkhead)));
+    }
+
+    // An instance declared in application.yml wins; otherwise the sport's shared config, then the default one.
+    private static <E, C> E resolve(Registry<E, C> registry, String name, String sportConfig,
+            BiFunction<String, String, E> create) {
+        return registry.find(name).orElseGet(() -> create.apply(name,
+                registry.getConfiguration(sportConfig).isPresent() ? sportConfig : DEFAULT_CONFIG));
+    }
+
+    public record Policies(
+            CircuitBreaker circuitBreaker,
+            Retry retry,
+            Bulkhead bulkhead) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.sportslive.infrastructure.sportradar;
+
+public enum SportradarResource {
+    SUMMARY("summary"),
+    TIMELINE("timeline"),
+    PLAY_BY_PLAY("pbp"),
+    SCHEDULE("schedule");
+
+    private final String code;
+
+    SportradarResource(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
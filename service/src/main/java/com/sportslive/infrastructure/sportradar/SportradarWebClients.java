@@ -0,0 +1,90 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.config.SportradarHttpProperties;
+import com.sportslive.domain.model.Sport;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SportradarWebClients implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SportradarWebClients.class);
+
+    private final Map<Sport, WebClient> clients = new EnumMap<>(Sport.class);
+    private final List<ConnectionProvider> providers = new ArrayList<>();
+
+    public SportradarWebClients(
+            WebClient.Builder webClientBuilder,
+            SportradarHttpProperties properties,
+            @Value("${sportradar.base-urls.soccer}") String soccerUrl,
+            @Value("${sportradar.base-urls.basketball}") String basketballUrl,
+            @Value("${sportradar.base-urls.tennis}") String tennisUrl,
+            @Value("${sportradar.timeout.connect:5000}") int connectTimeoutMillis,
+            @Value("${sportradar.timeout.read:10000}") long readTimeoutMillis) {
+
+        Map<Sport, String> baseUrls = Map.of(
+                Sport.SOCCER, soccerUrl,
+                Sport.BASKETBALL, basketballUrl,
+                Sport.TENNIS, tennisUrl);
+        for (Sport sport : Sport.values()) {
+            SportradarHttpProperties.Pool pool = properties.pool(sport);
+            ConnectionProvider provider = connectionProvider(sport, pool);
+            providers.add(provider);
+
+            HttpClient httpClient = HttpClient.create(provider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                    .option(ChannelOption.SO_KEEPALIVE, pool.keepAlive())
+                    .keepAlive(pool.keepAlive())
+                    .responseTimeout(Duration.ofMillis(readTimeoutMillis));
+            String baseUrl = baseUrls.get(sport);
+            boolean http2 = pool.http2() && baseUrl.startsWith("https");
+            if (http2) {
+                // HTTP/2 is negotiated through ALPN, falling back to HTTP/1.1 when the host does not offer it.
+                httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+            }
+
+            clients.put(sport, webClientBuilder.clone()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build());
+            log.info("Sportradar {} client: {} (max connections {}, http2 {})",
+                    sport.getCode(), baseUrl, pool.maxConnections(), http2);
+        }
+    }
+
+    public WebClient forSport(Sport sport) {
+        return clients.get(sport);
+    }
+
+    @Override
+    public void destroy() {
+        providers.forEach(ConnectionProvider::dispose);
+    }
+
+    private ConnectionProvider connectionProvider(Sport sport, SportradarHttpProperties.Pool pool) {
+        return ConnectionProvider.builder("sportradar-" + sport.getCode())
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictInBackground())
+                .metrics(true)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.exception.UpstreamThrottledException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class UpstreamBucket {
+
+    private final String name;
+    private final double tokensPerNano;
+    private final double capacity;
+    private final ScheduledExecutorService timer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+
+    private double tokens;
+    private long refilledAt;
+    private long sequence;
+    private boolean drainScheduled;
+
+    UpstreamBucket(String name, double ratePerSecond, int burst, ScheduledExecutorService timer) {
+        this.name = name;
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(burst, 1);
+        this.timer = timer;
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    CompletableFuture<Void> acquire(UpstreamPriority priority, Duration deadline) {
+        lock.lock();
+        try {
+            refill();
+            if (waiters.isEmpty() && tokens >= 1) {
+                tokens -= 1;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            long ahead = waiters.stream().filter(waiter -> !waiter.priority().isBelow(priority)).count();
+            long expectedWait = (long) ((ahead + 1 - tokens) / tokensPerNano);
+            if (expectedWait > deadline.toNanos()) {
+                return CompletableFuture.failedFuture(new UpstreamThrottledException(
+                        "Upstream " + name + " budget exhausted for " + priority.getCode() + " requests"));
+            }
+
+            Waiter waiter = new Waiter(priority, sequence++, new CompletableFuture<>());
+            waiters.add(waiter);
+            timer.schedule(() -> expire(waiter), deadline.toNanos(), TimeUnit.NANOSECONDS);
+            scheduleDrain();
+            return waiter.granted();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double availableTokens() {
+        lock.lock();
+        try {
+            refill();
+            return tokens;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        lock.lock();
+        try {
+            drainScheduled = false;
+            refill();
+            while (tokens >= 1 && !waiters.isEmpty()) {
+                granted.add(waiters.poll());
+                tokens -= 1;
+            }
+            if (!waiters.isEmpty()) {
+                scheduleDrain();
+            }
+        } finally {
+            lock.unlock();
+        }
+        granted.forEach(waiter -> waiter.granted().complete(null));
+    }
+
+    private void expire(Waiter waiter) {
+        boolean removed;
+        lock.lock();
+        try {
+            removed = waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+        if (removed) {
+            waiter.granted().completeExceptionally(new UpstreamThrottledException(
+                    "Upstream " + name + " queue deadline exceeded for " + waiter.priority().getCode() + " request"));
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        long delay = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        timer.schedule(this::drain, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+
+    private record Waiter(UpstreamPriority priority, long sequence, CompletableFuture<Void> granted) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.sportslive.infrastructure.sportradar;
+
+public enum UpstreamPriority {
+    LIVE_SCORE("live_score"),
+    TIMELINE("timeline"),
+    EVENT_DETAILS("event_details"),
+    STATISTICS("statistics"),
+    PREFETCH("prefetch");
+
+    private final String code;
+
+    UpstreamPriority(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public boolean isBelow(UpstreamPriority other) {
+        return ordinal() > other.ordinal();
+    }
+}
@@ -0,0 +1,149 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.config.UpstreamSchedulerProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.UpstreamThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class UpstreamScheduler implements DisposableBean {
+
+    private final UpstreamSchedulerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService timer;
+    private final Map<Sport, UpstreamBucket> buckets = new EnumMap<>(Sport.class);
+    private final AtomicLong quotaUsed = new AtomicLong();
+    private volatile YearMonth quotaMonth = YearMonth.now(ZoneOffset.UTC);
+
+    public UpstreamScheduler(UpstreamSchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.timer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("upstream-scheduler-"));
+
+        for (Sport sport : Sport.values()) {
+            UpstreamSchedulerProperties.Limit limit = properties.limit(sport);
+            UpstreamBucket bucket = new UpstreamBucket(sport.getCode(), limit.rate(), limit.burst(), timer);
+            buckets.put(sport, bucket);
+            Gauge.builder("sportradar.scheduler.tokens", bucket, UpstreamBucket::availableTokens)
+                    .description("Requests currently available in the upstream token bucket")
+                    .tag("upstream", sport.getCode())
+                    .register(meterRegistry);
+            Gauge.builder("sportradar.scheduler.queued", bucket, UpstreamBucket::queued)
+                    .description("Requests waiting for an upstream token")
+                    .tag("upstream", sport.getCode())
+                    .register(meterRegistry);
+        }
+        if (properties.monthlyQuota() > 0) {
+            Gauge.builder("sportradar.quota.remaining", this, UpstreamScheduler::remainingQuota)
+                    .description("Requests left in the monthly Sportradar quota tracked by this instance")
+                    .register(meterRegistry);
+        }
+    }
+
+    public void acquire(Sport sport, UpstreamPriority priority) {
+        try {
+            admit(sport, priority).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Mono<Void> acquireReactive(Sport sport, UpstreamPriority priority) {
+        return Mono.defer(() -> Mono.fromFuture(admit(sport, priority)));
+    }
+
+    // True when nobody is waiting for this upstream and at least minTokens are left, so background work can go.
+    public boolean hasSpareCapacity(Sport sport, double minTokens) {
+        if (!properties.enabled()) {
+            return true;
+        }
+        UpstreamBucket bucket = buckets.get(sport);
+        return bucket.queued() == 0 && bucket.availableTokens() >= minTokens;
+    }
+
+    private CompletableFuture<Void> admit(Sport sport, UpstreamPriority priority) {
+        if (!properties.enabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String quotaRejection = checkQuota(priority);
+        if (quotaRejection != null) {
+            count(sport, priority, "rejected_quota");
+            return CompletableFuture.failedFuture(new UpstreamThrottledException(quotaRejection));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return buckets.get(sport).acquire(priority, properties.deadline(priority))
+                .whenComplete((granted, error) -> {
+                    String outcome = error == null ? "granted" : "rejected_budget";
+                    sample.stop(Timer.builder("sportradar.scheduler.wait")
+                            .description("Time requests waited for an upstream token")
+                            .tag("upstream", sport.getCode())
+                            .tag("priority", priority.getCode())
+                            .tag("outcome", outcome)
+                            .register(meterRegistry));
+                    count(sport, priority, outcome);
+                    if (error == null) {
+                        quotaUsed.incrementAndGet();
+                    }
+                });
+    }
+
+    private String checkQuota(UpstreamPriority priority) {
+        long quota = properties.monthlyQuota();
+        if (quota <= 0) {
+            return null;
+        }
+        long remaining = remainingQuota();
+        if (remaining <= 0) {
+            return "Monthly Sportradar quota exhausted";
+        }
+        if (priority.isBelow(UpstreamPriority.TIMELINE) && remaining <= quota * properties.reserveRatio()) {
+            return "Monthly Sportradar quota reserved for live scores and timelines";
+        }
+        return null;
+    }
+
+    private long remainingQuota() {
+        YearMonth now = YearMonth.now(ZoneOffset.UTC);
+        if (!now.equals(quotaMonth)) {
+            quotaMonth = now;
+            quotaUsed.set(0);
+        }
+        return properties.monthlyQuota() - quotaUsed.get();
+    }
+
+    private void count(Sport sport, UpstreamPriority priority, String outcome) {
+        Counter.builder("sportradar.scheduler.requests")
+                .tag("upstream", sport.getCode())
+                .tag("priority", priority.getCode())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,128 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportslive.domain.model.Sport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+@Component
+public class UpstreamValidators {
+
+    private final SportradarPayloadDecoder decoder;
+    private final SportradarMetrics metrics;
+    private final boolean enabled;
+    private final Cache<VersionKey, Version> versions;
+
+    public UpstreamValidators(
+            SportradarPayloadDecoder decoder,
+            SportradarMetrics metrics,
+            @Value("${sportradar.conditional.enabled:true}") boolean enabled,
+            @Value("${sportradar.conditional.retention:10m}") Duration retention,
+            @Value("${sportradar.conditional.maximum-bytes:32MB}") DataSize maximumBytes) {
+        this.decoder = decoder;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        // Weighed by the upstream body size; the decoded map each entry keeps is a few times larger.
+        this.versions = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes.toBytes())
+                .weigher((VersionKey key, Version version) -> version.bytes())
+                .expireAfterAccess(retention)
+                .build();
+    }
+
+    public Mono<Map<String, Object>> exchange(WebClient.RequestHeadersSpec<?> request, Sport sport,
+            SportradarResource resource, String id) {
+        if (!enabled) {
+            return decoder.decode(request.retrieve(), sport, resource);
+        }
+        VersionKey key = new VersionKey(sport, resource, id);
+        Version previous = versions.getIfPresent(key);
+        if (previous != null) {
+            request.headers(previous::applyTo);
+        }
+        Mono<Fetched> fetched = request.exchangeToMono(response -> {
+            if (previous != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                return response.releaseBody().thenReturn(Fetched.NOT_MODIFIED);
+            }
+            if (response.statusCode().isError()) {
+                return response.createError();
+            }
+            HttpHeaders headers = response.headers().asHttpHeaders();
+            return DataBufferUtils.join(response.bodyToFlux(DataBuffer.class))
+                    .map(body -> new Fetched(body, headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED)));
+        });
+        return metrics.timeUpstream(fetched, sport, resource)
+                .map(result -> resolve(key, previous, result));
+    }
+
+    private Map<String, Object> resolve(VersionKey key, Version previous, Fetched fetched) {
+        if (fetched.body() == null) {
+            metrics.recordUnchanged(key.sport(), key.resource(), "not_modified");
+            return previous.payload();
+        }
+        byte[] digest = digest(fetched.body());
+        if (previous != null && Arrays.equals(previous.digest(), digest)) {
+            // Same bytes as last time: hand back the decoded map so adapters can reuse what they mapped from it.
+            metrics.recordPayloadSize(key.sport(), key.resource(), fetched.body().readableByteCount());
+            DataBufferUtils.release(fetched.body());
+            metrics.recordUnchanged(key.sport(), key.resource(), "same_content");
+            versions.put(key, new Version(fetched.etag(), fetched.lastModified(), digest, previous.payload(),
+                    previous.bytes()));
+            return previous.payload();
+        }
+        int bytes = fetched.body().readableByteCount();
+        Map<String, Object> payload = decoder.decode(fetched.body(), key.sport(), key.resource());
+        versions.put(key, new Version(fetched.etag(), fetched.lastModified(), digest, payload, bytes));
+        return payload;
+    }
+
+    private byte[] digest(DataBuffer body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (DataBuffer.ByteBufferIterator buffers = body.readableByteBuffers()) {
+                while (buffers.hasNext()) {
+                    ByteBuffer buffer = buffers.next();
+                    digest.update(buffer);
+                }
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    record VersionKey(Sport sport, SportradarResource resource, String id) {
+    }
+
+    record Version(String etag, String lastModified, byte[] digest, Map<String, Object> payload, int bytes) {
+
+        void applyTo(HttpHeaders headers) {
+            if (etag != null) {
+                headers.setIfNoneMatch(etag);
+            }
+            if (lastModified != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+    }
+
+    record Fetched(DataBuffer body, String etag, String lastModified) {
+
+        static final Fetched NOT_MODIFIED = new Fetched(null, null, null);
+    }
+}
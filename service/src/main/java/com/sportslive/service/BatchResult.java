@@ -0,0 +1,18 @@
+package com.sportslive.service;
+
+public record BatchResult<T>(
+        String eventId,
+        T value,
+        Throwable error) {
+    public static <T> BatchResult<T> success(String eventId, T value) {
+        return new BatchResult<>(eventId, value, null);
+    }
+
+    public static <T> BatchResult<T> failure(String eventId, Throwable error) {
+        return new BatchResult<>(eventId, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.sportslive.service;
+
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.SportEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+@Service
+public class BatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchService.class);
+
+    private final EventService eventService;
+    private final int maxConcurrency;
+
+    public BatchService(EventService eventService, @Value("${batch.max-concurrency:16}") int maxConcurrency) {
+        this.eventService = eventService;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Mono<List<BatchResult<SportEvent>>> getEvents(String sport, List<String> eventIds) {
+        eventService.checkSupported(sport);
+        return resolve(eventIds, eventId -> eventService.getEventAsync(sport, eventId));
+    }
+
+    public Mono<List<BatchResult<Score>>> getScores(String sport, List<String> eventIds) {
+        eventService.checkSupported(sport);
+        return resolve(eventIds, eventId -> eventService.getScoreAsync(sport, eventId));
+    }
+
+    // Cache hits complete synchronously and release their slot at once, so only misses
+    // compete for the bounded upstream concurrency; flatMapSequential keeps request order.
+    private <T> Mono<List<BatchResult<T>>> resolve(List<String> eventIds, Function<String, Mono<T>> lookup) {
+        return Flux.fromIterable(new LinkedHashSet<>(eventIds))
+                .flatMapSequential(eventId -> lookup.apply(eventId)
+                        .map(value -> BatchResult.success(eventId, value))
+                        .switchIfEmpty(Mono.fromSupplier(() -> BatchResult.<T>failure(eventId,
+                                new NoSuchElementException("No data for event " + eventId))))
+                        .onErrorResume(e -> {
+                            log.debug("Batch lookup failed for {}: {}", eventId, e.getMessage());
+                            return Mono.just(BatchResult.<T>failure(eventId, e));
+                        }), maxConcurrency)
+                .collectList();
+    }
+}
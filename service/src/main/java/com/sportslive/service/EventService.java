@@ -0,0 +1,201 @@
+package com.sportslive.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportslive.adapter.ReactiveSportAdapter;
+import com.sportslive.adapter.SportAdapter;
+import com.sportslive.adapter.SportAdapter.StatisticsFilter;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.domain.model.*;
+import com.sportslive.exception.UnsupportedSportException;
+import com.sportslive.infrastructure.cache.CoalescingCache;
+import com.sportslive.infrastructure.cache.CoalescingCacheFactory;
+import com.sportslive.infrastructure.cache.EventCacheKey;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+@Service
+public class EventService {
+
+    private final Map<String, SportAdapter> adapters;
+    private final Map<String, ReactiveSportAdapter> reactiveAdapters;
+    private final CoalescingCache<EventKey, SportEvent> eventCache;
+    private final CoalescingCache<EventKey, Score> scoreCache;
+    private final CoalescingCache<EventKey, Timeline> timelineCache;
+    private final CoalescingCache<StatisticsKey, Statistics> statisticsCache;
+    private final Cache<EventKey, TimelineLog> timelineLogs;
+    private final Duration kickoffWindow;
+
+    public EventService(
+            @Qualifier("sportAdapters") Map<String, SportAdapter> adapters,
+            @Qualifier("reactiveSportAdapters") Map<String, ReactiveSportAdapter> reactiveAdapters,
+            CoalescingCacheFactory cacheFactory,
+            CacheProperties cacheProperties,
+            @Value("${timeline.log.retention:6h}") Duration timelineRetention) {
+        this.adapters = adapters;
+        this.reactiveAdapters = reactiveAdapters;
+        this.kickoffWindow = cacheProperties.kickoffWindow();
+        this.timelineLogs = Caffeine.newBuilder()
+                .maximumSize(5000)
+                .expireAfterAccess(timelineRetention)
+                .build();
+        this.eventCache = cacheFactory.create("event-details", EventKey.class, SportEvent.class,
+                key -> getAdapter(key.sport()).getEvent(key.eventId()),
+                (key, event) -> effectiveStatus(event));
+        this.scoreCache = cacheFactory.create("live-scores", EventKey.class, Score.class,
+                key -> getAdapter(key.sport()).getScore(key.eventId()),
+                (key, score) -> knownStatus(key));
+        this.timelineCache = cacheFactory.create("timeline", EventKey.class, Timeline.class,
+                key -> {
+                    TimelineLog log = timelineLog(key);
+                    return log.append(getAdapter(key.sport()).getTimeline(key.eventId(), log::contains));
+                },
+                (key, timeline) -> knownStatus(key),
+                (key, timeline) -> timelineLog(key).append(timeline));
+        this.statisticsCache = cacheFactory.create("statistics", StatisticsKey.class, Statistics.class,
+                key -> getAdapter(key.sport()).getStatistics(key.eventId(), key.filter()),
+                (key, statistics) -> knownStatus(key));
+    }
+
+    public SportEvent getEvent(String sport, String eventId) {
+        return eventCache.get(eventKey(sport, eventId));
+    }
+
+    public Score getScore(String sport, String eventId) {
+        return scoreCache.get(eventKey(sport, eventId));
+    }
+
+    public Timeline getTimeline(String sport, String eventId) {
+        return timelineCache.get(eventKey(sport, eventId));
+    }
+
+    public TimelineDelta getTimelineSince(String sport, String eventId, String since) {
+        EventKey key = eventKey(sport, eventId);
+        timelineCache.get(key);
+        return timelineLog(key).since(since);
+    }
+
+    public Statistics getStatistics(String sport, String eventId, StatisticsFilter filter) {
+        Sport supported = getAdapter(sport).getSupportedSport();
+        return statisticsCache.get(new StatisticsKey(supported, eventId, filter));
+    }
+
+    public Mono<SportEvent> getEventAsync(String sport, String eventId) {
+        return Mono.defer(() -> eventCache.getAsync(eventKey(sport, eventId),
+                key -> getReactiveAdapter(key.sport()).getEvent(key.eventId())));
+    }
+
+    public Mono<Score> getScoreAsync(String sport, String eventId) {
+        return Mono.defer(() -> scoreCache.getAsync(eventKey(sport, eventId),
+                key -> getReactiveAdapter(key.sport()).getScore(key.eventId())));
+    }
+
+    public Mono<Timeline> getTimelineAsync(String sport, String eventId) {
+        return Mono.defer(() -> timelineCache.getAsync(eventKey(sport, eventId),
+                key -> {
+                    TimelineLog log = timelineLog(key);
+                    return getReactiveAdapter(key.sport()).getTimeline(key.eventId(), log::contains)
+                            .map(log::append);
+                }));
+    }
+
+    public Mono<TimelineDelta> getTimelineSinceAsync(String sport, String eventId, String since) {
+        return getTimelineAsync(sport, eventId)
+                .map(timeline -> timelineLog(eventKey(sport, eventId)).since(since));
+    }
+
+    public Mono<Statistics> getStatisticsAsync(String sport, String eventId, StatisticsFilter filter) {
+        return Mono.defer(() -> statisticsCache.getAsync(
+                new StatisticsKey(getAdapter(sport).getSupportedSport(), eventId, filter),
+                key -> getReactiveAdapter(key.sport()).getStatistics(key.eventId(), key.filter())));
+    }
+
+    public boolean hasEvent(String sport, String eventId) {
+        return eventCache.getIfReady(eventKey(sport, eventId)) != null;
+    }
+
+    public void refreshEvent(String sport, String eventId) {
+        eventCache.refresh(eventKey(sport, eventId));
+    }
+
+    public void refreshScore(String sport, String eventId) {
+        scoreCache.refresh(eventKey(sport, eventId));
+    }
+
+    public void checkSupported(String sport) {
+        getAdapter(sport);
+    }
+
+    // A log evicted while its timeline is still cached is rebuilt from that entry, so cursors keep resolving
+    // instead of forcing a reset.
+    private TimelineLog timelineLog(EventKey key) {
+        return timelineLogs.get(key, k -> {
+            TimelineLog log = new TimelineLog(k.eventId());
+            Timeline cached = timelineCache.getIfReady(k);
+            if (cached != null) {
+                log.append(cached);
+            }
+            return log;
+        });
+    }
+
+    // Score, timeline and statistics payloads carry no status, so it comes from the cached event details only;
+    // without them the entry gets the cache's "other" TTL, which is why that one stays short.
+    private EventStatus knownStatus(EventCacheKey key) {
+        SportEvent event = eventCache.getIfReady(new EventKey(key.sport(), key.eventId()));
+        return event != null ? effectiveStatus(event) : EventStatus.UNKNOWN;
+    }
+
+    // A cached SCHEDULED status goes stale at kick-off, so from kickoffWindow before the start every
+    // cache already uses its live TTL. With a window of at least the scheduled TTL, no entry written
+    // before the window outlives the start.
+    private EventStatus effectiveStatus(SportEvent event) {
+        if (event.status() == EventStatus.SCHEDULED && event.scheduledAt() != null
+                && !LocalDateTime.now(ZoneOffset.UTC).isBefore(event.scheduledAt().minus(kickoffWindow))) {
+            return EventStatus.LIVE;
+        }
+        return event.status();
+    }
+
+    private EventKey eventKey(String sport, String eventId) {
+        return new EventKey(getAdapter(sport).getSupportedSport(), eventId);
+    }
+
+    private SportAdapter getAdapter(Sport sport) {
+        return getAdapter(sport.getCode());
+    }
+
+    private SportAdapter getAdapter(String sport) {
+        SportAdapter adapter = adapters.get(sport.toLowerCase());
+        if (adapter == null) {
+            throw new UnsupportedSportException(sport);
+        }
+        return adapter;
+    }
+
+    private ReactiveSportAdapter getReactiveAdapter(Sport sport) {
+        ReactiveSportAdapter adapter = reactiveAdapters.get(sport.getCode());
+        if (adapter == null) {
+            throw new UnsupportedSportException(sport.getCode());
+        }
+        return adapter;
+    }
+
+    record EventKey(Sport sport, String eventId) implements EventCacheKey {
+    }
+
+    record StatisticsKey(Sport sport, String eventId, StatisticsFilter filter) implements EventCacheKey {
+
+        @Override
+        public String sharedKey() {
+            return sport.getCode() + ":" + eventId + ":" + filter.includeAdvanced() + ":" + filter.period();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.sportslive.service;
+
+import com.sportslive.config.PrewarmProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.UpstreamThrottledException;
+import com.sportslive.infrastructure.feed.FeedRouter;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import com.sportslive.infrastructure.sportradar.UpstreamScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Every request here goes out at PREFETCH priority, behind any live caller queued on the same upstream bucket.
+@Component
+public class SchedulePrewarmer implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulePrewarmer.class);
+
+    private final PrewarmProperties properties;
+    private final FeedRouter feeds;
+    private final SportradarPayloadCache payloads;
+    private final UpstreamScheduler upstreamScheduler;
+    private final EventService eventService;
+    private final MeterRegistry meterRegistry;
+    private final Map<ScheduleKey, DaySchedule> schedules = new ConcurrentHashMap<>();
+    private ScheduledExecutorService timer;
+
+    public SchedulePrewarmer(
+            PrewarmProperties properties,
+            FeedRouter feeds,
+            SportradarPayloadCache payloads,
+            UpstreamScheduler upstreamScheduler,
+            EventService eventService,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.feeds = feeds;
+        this.payloads = payloads;
+        this.upstreamScheduler = upstreamScheduler;
+        this.eventService = eventService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.enabled()) {
+            return;
+        }
+        timer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("schedule-prewarmer-"));
+        long interval = properties.interval().toMillis();
+        timer.scheduleWithFixedDelay(this::runQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Pre-warming {} matches starting within {}", properties.sports(), properties.window());
+    }
+
+    @Override
+    public void destroy() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+
+    void run() {
+        Instant now = Instant.now();
+        for (Sport sport : properties.sports()) {
+            Budget budget = new Budget(properties.maxRequestsPerRun());
+            try {
+                warm(sport, now, budget);
+            } catch (UpstreamThrottledException e) {
+                count(sport, "throttled");
+                log.debug("Pre-warming of {} stopped by upstream budget: {}", sport.getCode(), e.getMessage());
+            }
+        }
+    }
+
+    private void warm(Sport sport, Instant now, Budget budget) {
+        Instant horizon = now.plus(properties.window());
+        for (ScheduledMatch match : upcoming(sport, now, horizon, budget)) {
+            boolean scoreDue = !now.isBefore(match.start().minus(properties.scoreLead()));
+            if (!scoreDue && eventService.hasEvent(sport.getCode(), match.eventId())) {
+                continue;
+            }
+            if (!budget.take(sport)) {
+                return;
+            }
+            // Puts the summary in the payload cache so the refreshes below map it without another upstream call.
+            // If it failed, the cache has nothing to reuse and a refresh would call upstream at live priority.
+            try {
+                payloads.get(sport, SportradarResource.SUMMARY, match.eventId(),
+                        id -> feeds.fetch(sport, SportradarResource.SUMMARY, id, UpstreamPriority.PREFETCH));
+            } catch (UpstreamThrottledException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                count(sport, "unavailable");
+                log.debug("Skipping pre-warm of {} {}: {}", sport.getCode(), match.eventId(), e.getMessage());
+                continue;
+            }
+            eventService.refreshEvent(sport.getCode(), match.eventId());
+            if (scoreDue) {
+                eventService.refreshScore(sport.getCode(), match.eventId());
+                count(sport, "score");
+            } else {
+                count(sport, "event");
+            }
+        }
+    }
+
+    private List<ScheduledMatch> upcoming(Sport sport, Instant now, Instant horizon, Budget budget) {
+        Instant earliest = now.minus(properties.scoreLead());
+        List<ScheduledMatch> matches = new ArrayList<>();
+        LocalDate last = LocalDate.ofInstant(horizon, ZoneOffset.UTC);
+        for (LocalDate day = LocalDate.ofInstant(earliest, ZoneOffset.UTC); !day.isAfter(last); day = day.plusDays(1)) {
+            for (ScheduledMatch match : schedule(sport, day, now, budget)) {
+                if (!match.start().isBefore(earliest) && !match.start().isAfter(horizon)) {
+                    matches.add(match);
+                }
+            }
+        }
+        matches.sort(Comparator.comparing(ScheduledMatch::start));
+        return matches;
+    }
+
+    private List<ScheduledMatch> schedule(Sport sport, LocalDate day, Instant now, Budget budget) {
+        ScheduleKey key = new ScheduleKey(sport, day);
+        DaySchedule cached = schedules.get(key);
+        if (cached != null && cached.fetchedAt().plus(properties.scheduleRefresh()).isAfter(now)) {
+            return cached.matches();
+        }
+        if (!budget.take(sport)) {
+            return cached != null ? cached.matches() : List.of();
+        }
+        Map<String, Object> payload;
+        try {
+            payload = feeds.fetch(sport, SportradarResource.SCHEDULE, day.toString(), UpstreamPriority.PREFETCH);
+        } catch (UpstreamThrottledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            count(sport, "schedule_unavailable");
+            log.debug("Schedule for {} on {} unavailable: {}", sport.getCode(), day, e.getMessage());
+            return cached != null ? cached.matches() : List.of();
+        }
+        List<ScheduledMatch> matches = parse(payload);
+        schedules.put(key, new DaySchedule(now, matches));
+        schedules.keySet().removeIf(old -> old.day().isBefore(day.minusDays(1)));
+        count(sport, "schedule");
+        log.debug("Loaded {} {} matches scheduled for {}", matches.size(), sport.getCode(), day);
+        return matches;
+    }
+
+    // Soccer lists the day under "schedules", basketball and tennis under "summaries"; both wrap a sport_event.
+    @SuppressWarnings("unchecked")
+    private List<ScheduledMatch> parse(Map<String, Object> payload) {
+        List<ScheduledMatch> matches = new ArrayList<>();
+        for (String field : List.of("schedules", "summaries")) {
+            if (!(payload.get(field) instanceof List<?> entries)) {
+                continue;
+            }
+            for (Object entry : entries) {
+                if (!(entry instanceof Map<?, ?> item) || !(item.get("sport_event") instanceof Map<?, ?> event)) {
+                    continue;
+                }
+                Map<String, Object> sportEvent = (Map<String, Object>) event;
+                Object id = sportEvent.get("id");
+                Instant start = parseInstant(sportEvent.getOrDefault("start_time", sportEvent.get("scheduled")));
+                if (id != null && start != null) {
+                    matches.add(new ScheduledMatch(id.toString(), start));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private Instant parseInstant(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value.toString()).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void runQuietly() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("Schedule pre-warming failed: {}", e.getMessage());
+        }
+    }
+
+    private void count(Sport sport, String outcome) {
+        Counter.builder("prewarm.requests")
+                .description("Background schedule and event fetches made by the pre-warmer")
+                .tag("sport", sport.getCode())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private final class Budget {
+
+        private int remaining;
+
+        Budget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        boolean take(Sport sport) {
+            if (remaining <= 0) {
+                return false;
+            }
+            if (!upstreamScheduler.hasSpareCapacity(sport, properties.minSpareTokens())) {
+                count(sport, "deferred");
+                remaining = 0;
+                return false;
+            }
+            remaining--;
+            return true;
+        }
+    }
+
+    private record ScheduleKey(Sport sport, LocalDate day) {
+    }
+
+    private record DaySchedule(Instant fetchedAt, List<ScheduledMatch> matches) {
+    }
+
+    private record ScheduledMatch(String eventId, Instant start) {
+    }
+}
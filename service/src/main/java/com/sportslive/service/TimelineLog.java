@@ -0,0 +1,102 @@
+package com.sportslive.service;
+
+import com.sportslive.domain.model.CoverageMetadata;
+import com.sportslive.domain.model.Timeline;
+import com.sportslive.domain.model.TimelineDelta;
+import com.sportslive.domain.model.TimelineEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+class TimelineLog {
+
+    private final String eventId;
+    private final List<TimelineEvent> events = new ArrayList<>();
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private CoverageMetadata coverage = CoverageMetadata.minimal();
+    private Timeline snapshot;
+
+    TimelineLog(String eventId) {
+        this.eventId = eventId;
+    }
+
+    boolean contains(String id) {
+        if (id == null) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return positions.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Timeline append(Timeline fresh) {
+        lock.writeLock().lock();
+        try {
+            int known = events.size();
+            for (TimelineEvent event : fresh.events()) {
+                String key = keyOf(event);
+                if (!positions.containsKey(key)) {
+                    positions.put(key, events.size());
+                    events.add(event);
+                }
+            }
+            // Hand back the same snapshot when nothing changed so the cached entry is only extended.
+            if (snapshot != null && events.size() == known && Objects.equals(snapshot.coverage(), fresh.coverage())) {
+                return snapshot;
+            }
+            coverage = fresh.coverage();
+            snapshot = new Timeline(eventId, List.copyOf(events), coverage);
+            return snapshot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    TimelineDelta since(String cursor) {
+        lock.readLock().lock();
+        try {
+            int size = events.size();
+            int from = resolve(cursor, size);
+            boolean reset = cursor != null && from < 0;
+            List<TimelineEvent> delta = List.copyOf(events.subList(Math.max(from, 0), size));
+            return new TimelineDelta(eventId, delta, String.valueOf(size), reset, coverage);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A cursor is either the id of the last event the client has seen or the sequence returned
+    // by a previous call; -1 means it is unknown here and the client must start over.
+    private int resolve(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        Integer position = positions.get(cursor);
+        if (position != null) {
+            return position + 1;
+        }
+        try {
+            long sequence = Long.parseLong(cursor);
+            return sequence >= 0 && sequence <= size ? (int) sequence : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String keyOf(TimelineEvent event) {
+        if (event.id() != null) {
+            return event.id();
+        }
+        return String.join("|", event.type(), event.period(), event.clock(), event.participantId(),
+                event.description());
+    }
+}
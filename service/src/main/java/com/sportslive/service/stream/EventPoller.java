@@ -0,0 +1,144 @@
+package com.sportslive.service.stream;
+
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.SportEvent;
+import com.sportslive.domain.model.Timeline;
+import com.sportslive.domain.model.TimelineEvent;
+import com.sportslive.service.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+class EventPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPoller.class);
+
+    private final String sport;
+    private final String eventId;
+    private final EventService eventService;
+    private final Consumer<EventPoller> onFinished;
+    private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> task;
+    private Score lastScore;
+    private Timeline lastTimeline;
+    private String lastTimelineEventId;
+    private int lastTimelineHash;
+    private boolean finished;
+
+    EventPoller(String sport, String eventId, EventService eventService, Consumer<EventPoller> onFinished) {
+        this.sport = sport;
+        this.eventId = eventId;
+        this.eventService = eventService;
+        this.onFinished = onFinished;
+    }
+
+    String getSport() {
+        return sport;
+    }
+
+    String getEventId() {
+        return eventId;
+    }
+
+    void start(ScheduledExecutorService scheduler, Duration interval) {
+        task = scheduler.scheduleWithFixedDelay(this::poll, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.debug("Started stream poller for {}/{}", sport, eventId);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel(false);
+        }
+        log.debug("Stopped stream poller for {}/{}", sport, eventId);
+    }
+
+    // False once the event has finished: the caller must start a new poller, which sends the final state and closes.
+    synchronized boolean add(StreamSubscriber subscriber) {
+        if (finished) {
+            return false;
+        }
+        subscribers.add(subscriber);
+        return true;
+    }
+
+    void remove(StreamSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    boolean isEmpty() {
+        return subscribers.isEmpty();
+    }
+
+    void poll() {
+        try {
+            // Read before the score and timeline so the last update of a finished event is sent before closing.
+            SportEvent event = eventService.getEvent(sport, eventId);
+
+            if (hasSubscribers(StreamType.SCORE)) {
+                Score score = eventService.getScore(sport, eventId);
+                if (!score.equals(lastScore)) {
+                    lastScore = score;
+                    forEach(StreamType.SCORE, s -> s.offerScore(score));
+                }
+            }
+
+            if (hasSubscribers(StreamType.TIMELINE)) {
+                Timeline timeline = eventService.getTimeline(sport, eventId);
+                if (timelineChanged(timeline)) {
+                    forEach(StreamType.TIMELINE, s -> s.offerEvents(timeline.events()));
+                }
+            }
+
+            if (event.status() == EventStatus.FINISHED || event.status() == EventStatus.CANCELLED) {
+                synchronized (this) {
+                    finished = true;
+                }
+                log.info("Event {}/{} reached {}, closing {} stream(s)", sport, eventId, event.status(),
+                        subscribers.size());
+                subscribers.forEach(StreamSubscriber::finish);
+                onFinished.accept(this);
+            }
+        } catch (Exception e) {
+            log.warn("Stream poll failed for {}/{}: {}", sport, eventId, e.getMessage());
+        }
+    }
+
+    // A reload can hand back a new instance with the same events, so the last id and a content hash decide
+    // instead of the instance or the size.
+    private boolean timelineChanged(Timeline timeline) {
+        if (timeline == lastTimeline) {
+            return false;
+        }
+        List<TimelineEvent> events = timeline.events();
+        String lastEventId = events.isEmpty() ? null : events.get(events.size() - 1).id();
+        int hash = events.hashCode();
+        boolean changed = lastTimeline == null
+                || !Objects.equals(lastEventId, lastTimelineEventId)
+                || hash != lastTimelineHash;
+        lastTimeline = timeline;
+        lastTimelineEventId = lastEventId;
+        lastTimelineHash = hash;
+        return changed;
+    }
+
+    private boolean hasSubscribers(StreamType type) {
+        return subscribers.stream().anyMatch(s -> s.getType() == type);
+    }
+
+    private void forEach(StreamType type, Consumer<StreamSubscriber> action) {
+        subscribers.stream()
+                .filter(s -> s.getType() == type)
+                .forEach(action);
+    }
+}
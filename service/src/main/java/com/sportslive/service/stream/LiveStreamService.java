@@ -0,0 +1,98 @@
+package com.sportslive.service.stream;
+
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.Timeline;
+import com.sportslive.service.EventService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Service
+public class LiveStreamService {
+
+    private final EventService eventService;
+    private final ScheduledExecutorService scheduler;
+    private final Executor sender;
+    private final Duration pollInterval;
+    private final Duration emitterTimeout;
+    private final ConcurrentMap<StreamKey, EventPoller> pollers = new ConcurrentHashMap<>();
+
+    public LiveStreamService(
+            EventService eventService,
+            @Qualifier("streamPollerScheduler") ScheduledExecutorService scheduler,
+            @Qualifier("streamSenderExecutor") Executor sender,
+            @Value("${stream.poll-interval:2s}") Duration pollInterval,
+            @Value("${stream.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.eventService = eventService;
+        this.scheduler = scheduler;
+        this.sender = sender;
+        this.pollInterval = pollInterval;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    public SseEmitter subscribeScore(String sport, String eventId) {
+        Score initial = eventService.getScore(sport, eventId);
+        StreamSubscriber subscriber = subscribe(sport, eventId, StreamType.SCORE);
+        subscriber.offerScore(initial);
+        return subscriber.getEmitter();
+    }
+
+    public SseEmitter subscribeTimeline(String sport, String eventId) {
+        Timeline initial = eventService.getTimeline(sport, eventId);
+        StreamSubscriber subscriber = subscribe(sport, eventId, StreamType.TIMELINE);
+        subscriber.offerEvents(initial.events());
+        return subscriber.getEmitter();
+    }
+
+    public int activePollers() {
+        return pollers.size();
+    }
+
+    private StreamSubscriber subscribe(String sport, String eventId, StreamType type) {
+        StreamKey key = new StreamKey(sport.toLowerCase(), eventId);
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, type, sender);
+
+        pollers.compute(key, (k, poller) -> {
+            if (poller == null || !poller.add(subscriber)) {
+                poller = new EventPoller(k.sport(), k.eventId(), eventService, this::finished);
+                poller.add(subscriber);
+                poller.start(scheduler, pollInterval);
+            }
+            return poller;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(key, subscriber));
+        emitter.onTimeout(() -> unsubscribe(key, subscriber));
+        emitter.onError(e -> unsubscribe(key, subscriber));
+        return subscriber;
+    }
+
+    private void unsubscribe(StreamKey key, StreamSubscriber subscriber) {
+        pollers.computeIfPresent(key, (k, poller) -> {
+            poller.remove(subscriber);
+            if (poller.isEmpty()) {
+                poller.stop();
+                return null;
+            }
+            return poller;
+        });
+    }
+
+    private void finished(EventPoller poller) {
+        StreamKey key = new StreamKey(poller.getSport(), poller.getEventId());
+        if (pollers.remove(key, poller)) {
+            poller.stop();
+        }
+    }
+
+    record StreamKey(String sport, String eventId) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.sportslive.service.stream;
+
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.TimelineEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+class StreamSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamSubscriber.class);
+
+    private final SseEmitter emitter;
+    private final StreamType type;
+    private final Executor sender;
+    private final AtomicReference<Score> pendingScore = new AtomicReference<>();
+    private final Queue<TimelineEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final Set<String> deliveredIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile Score lastSentScore;
+    private volatile boolean finishing;
+
+    StreamSubscriber(SseEmitter emitter, StreamType type, Executor sender) {
+        this.emitter = emitter;
+        this.type = type;
+        this.sender = sender;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    StreamType getType() {
+        return type;
+    }
+
+    void offerScore(Score score) {
+        pendingScore.set(score);
+        scheduleDrain();
+    }
+
+    // The timeline is append-only, so an event is sent once per id; later changes to it are not sent again.
+    void offerEvents(List<TimelineEvent> events) {
+        for (TimelineEvent event : events) {
+            if (event.id() == null || deliveredIds.add(event.id())) {
+                pendingEvents.add(event);
+            }
+        }
+        scheduleDrain();
+    }
+
+    void finish() {
+        finishing = true;
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    // Only the latest pending score is kept and queued timeline events go out as one batch,
+    // so a slow client receives conflated updates instead of building a backlog.
+    private void drain() {
+        try {
+            do {
+                sendPending();
+                draining.set(false);
+            } while (hasPending() && draining.compareAndSet(false, true));
+
+            if (finishing && !hasPending()) {
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            log.debug("Dropping {} stream subscriber: {}", type, e.getMessage());
+            draining.set(false);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendPending() throws Exception {
+        Score score = pendingScore.getAndSet(null);
+        if (score != null && !score.equals(lastSentScore)) {
+            emitter.send(SseEmitter.event().name("score").data(score));
+            lastSentScore = score;
+        }
+
+        List<TimelineEvent> batch = new ArrayList<>();
+        TimelineEvent event;
+        while ((event = pendingEvents.poll()) != null) {
+            batch.add(event);
+        }
+        if (!batch.isEmpty()) {
+            emitter.send(SseEmitter.event().name("timeline").data(batch));
+        }
+    }
+
+    private boolean hasPending() {
+        return pendingScore.get() != null || !pendingEvents.isEmpty();
+    }
+}
@@ -0,0 +1,6 @@
+package com.sportslive.service.stream;
+
+enum StreamType {
+    SCORE,
+    TIMELINE
+}
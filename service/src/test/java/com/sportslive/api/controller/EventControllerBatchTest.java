@@ -0,0 +1,94 @@
+package com.sportslive.api.controller;
+
+import com.sportslive.api.dto.BatchItem;
+import com.sportslive.api.dto.BatchRequest;
+import com.sportslive.api.dto.BatchResponse;
+import com.sportslive.domain.model.Score;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.cache.SerializedResponseCache;
+import com.sportslive.service.BatchService;
+import com.sportslive.service.EventService;
+import com.sportslive.service.stream.LiveStreamService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventControllerBatchTest {
+
+    private EventService eventService;
+    private EventController controller;
+
+    @BeforeEach
+    void setUp() {
+        eventService = mock(EventService.class);
+        controller = new EventController(eventService, mock(LiveStreamService.class),
+                new BatchService(eventService, 4), mock(SerializedResponseCache.class), true);
+    }
+
+    @Test
+    void failedIdsGetTheirOwnErrorWhileOthersSucceed() {
+        when(eventService.getScoreAsync("soccer", "ok")).thenReturn(Mono.just(Score.of(2, 1)));
+        when(eventService.getScoreAsync("soccer", "down"))
+                .thenReturn(Mono.error(new ExternalServiceException("Sportradar down", "unavailable")));
+        when(eventService.getScoreAsync("soccer", "open")).thenReturn(Mono.error(
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test"))));
+
+        ResponseEntity<BatchResponse<Score>> response =
+                controller.getScores("soccer", new BatchRequest(List.of("ok", "down", "open"))).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        BatchResponse<Score> body = response.getBody();
+        assertThat(body.succeeded()).isEqualTo(1);
+        assertThat(body.failed()).isEqualTo(2);
+        assertThat(body.results()).extracting(BatchItem::eventId).containsExactly("ok", "down", "open");
+
+        BatchItem<Score> ok = body.results().get(0);
+        assertThat(ok.status()).isEqualTo(200);
+        assertThat(ok.data().displayScore()).isEqualTo("2 - 1");
+
+        BatchItem<Score> down = body.results().get(1);
+        assertThat(down.status()).isEqualTo(503);
+        assertThat(down.data()).isNull();
+        assertThat(down.providerStatus()).isEqualTo("unavailable");
+
+        BatchItem<Score> open = body.results().get(2);
+        assertThat(open.status()).isEqualTo(503);
+        assertThat(open.providerStatus()).isEqualTo("circuit_open");
+    }
+
+    @Test
+    void saturatedBulkheadIsReportedSeparately() {
+        when(eventService.getScoreAsync("soccer", "busy")).thenReturn(Mono.error(
+                BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("test"))));
+
+        BatchResponse<Score> body =
+                controller.getScores("soccer", new BatchRequest(List.of("busy"))).block().getBody();
+
+        assertThat(body.results()).singleElement().satisfies(item -> {
+            assertThat(item.status()).isEqualTo(503);
+            assertThat(item.providerStatus()).isEqualTo("bulkhead_full");
+        });
+    }
+
+    @Test
+    void emptyLookupIsReportedAsNotFound() {
+        when(eventService.getScoreAsync("soccer", "gone")).thenReturn(Mono.empty());
+
+        BatchResponse<Score> body =
+                controller.getScores("soccer", new BatchRequest(List.of("gone"))).block().getBody();
+
+        assertThat(body.results()).singleElement()
+                .satisfies(item -> assertThat(item.status()).isEqualTo(404));
+    }
+}
@@ -0,0 +1,94 @@
+package com.sportslive.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportslive.domain.model.Score;
+import com.sportslive.infrastructure.cache.SerializedResponseCache;
+import com.sportslive.service.BatchService;
+import com.sportslive.service.EventService;
+import com.sportslive.service.stream.LiveStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventControllerConditionalTest {
+
+    private EventController controller;
+
+    @BeforeEach
+    void setUp() {
+        EventService eventService = mock(EventService.class);
+        when(eventService.getScoreAsync("soccer", "sr:match:1")).thenReturn(Mono.just(Score.of(2, 1)));
+        controller = new EventController(eventService, mock(LiveStreamService.class),
+                new BatchService(eventService, 4), new SerializedResponseCache(new ObjectMapper(), true, true, 0), true);
+    }
+
+    @Test
+    void gzipAndIdentityBodiesCarryDifferentTags() {
+        ResponseEntity<?> identity = score(new HttpHeaders());
+        HttpHeaders gzipHeaders = new HttpHeaders();
+        gzipHeaders.set(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        ResponseEntity<?> gzip = score(gzipHeaders);
+
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzip.getHeaders().getETag()).isEqualTo(
+                identity.getHeaders().getETag().replaceFirst("\"$", "-gzip\""));
+        assertThat(identity.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzip.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void notModifiedOnlyForTheTagOfTheNegotiatedEncoding() {
+        String identityTag = score(new HttpHeaders()).getHeaders().getETag();
+
+        HttpHeaders gzipHeaders = new HttpHeaders();
+        gzipHeaders.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        gzipHeaders.setIfNoneMatch(identityTag);
+        ResponseEntity<?> gzip = score(gzipHeaders);
+        assertThat(gzip.getStatusCode().value()).isEqualTo(200);
+
+        HttpHeaders revalidate = new HttpHeaders();
+        revalidate.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        revalidate.setIfNoneMatch(gzip.getHeaders().getETag());
+        ResponseEntity<?> notModified = score(revalidate);
+        assertThat(notModified.getStatusCode().value()).isEqualTo(304);
+        assertThat(notModified.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void binaryFormatsCarryTheirOwnTags() {
+        String jsonTag = score(new HttpHeaders()).getHeaders().getETag();
+
+        HttpHeaders cborHeaders = new HttpHeaders();
+        cborHeaders.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        cborHeaders.setIfNoneMatch(jsonTag);
+        ResponseEntity<?> cbor = score(cborHeaders);
+        assertThat(cbor.getStatusCode().value()).isEqualTo(200);
+        assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cbor.getHeaders().getETag()).isEqualTo(jsonTag.replaceFirst("\"$", "-cbor\""));
+        assertThat(cbor.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+
+        HttpHeaders smileHeaders = new HttpHeaders();
+        smileHeaders.setAccept(List.of(MediaType.valueOf("application/x-jackson-smile")));
+        smileHeaders.setIfNoneMatch(cbor.getHeaders().getETag());
+        ResponseEntity<?> smile = score(smileHeaders);
+        assertThat(smile.getStatusCode().value()).isEqualTo(200);
+        assertThat(smile.getHeaders().getETag()).isEqualTo(jsonTag.replaceFirst("\"$", "-smile\""));
+
+        cborHeaders.setIfNoneMatch(cbor.getHeaders().getETag());
+        assertThat(score(cborHeaders).getStatusCode().value()).isEqualTo(304);
+    }
+
+    private ResponseEntity<?> score(HttpHeaders headers) {
+        return controller.getScore("soccer", "sr:match:1", headers).block();
+    }
+}
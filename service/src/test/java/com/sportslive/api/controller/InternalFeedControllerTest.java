@@ -0,0 +1,94 @@
+package com.sportslive.api.controller;
+
+import com.sportslive.config.ClusterProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.feed.SportradarFeedProvider;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class InternalFeedControllerTest {
+
+    private SportradarPayloadCache payloads;
+    private SportradarFeedProvider sportradar;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        payloads = mock(SportradarPayloadCache.class);
+        sportradar = mock(SportradarFeedProvider.class);
+        when(payloads.getReactive(any(), any(), any(), any())).thenAnswer(invocation ->
+                ((Function<String, Mono<Map<String, Object>>>) invocation.getArgument(3)).apply(invocation.getArgument(2)));
+        when(sportradar.fetchLocalReactive(any(), any(), any(), any())).thenReturn(Mono.just(Map.of("id", "sr:match:1")));
+    }
+
+    @Test
+    void rejectsPeersWithoutTheClusterToken() {
+        InternalFeedController controller = controller("secret");
+
+        assertThat(fetch(controller, SportradarResource.SUMMARY, null).getStatusCode().value()).isEqualTo(401);
+        assertThat(fetch(controller, SportradarResource.SUMMARY, "wrong").getStatusCode().value()).isEqualTo(401);
+        verifyNoInteractions(payloads, sportradar);
+    }
+
+    @Test
+    void rejectsEveryoneWhenNoTokenIsConfigured() {
+        assertThat(fetch(controller(""), SportradarResource.SUMMARY, "").getStatusCode().value()).isEqualTo(401);
+        verifyNoInteractions(payloads, sportradar);
+    }
+
+    @Test
+    void servesAuthorizedPeersAtTheirCallersPriority() {
+        InternalFeedController controller = controller("secret");
+
+        ResponseEntity<Map<String, Object>> response = controller.fetch(Sport.BASKETBALL, SportradarResource.SUMMARY,
+                "sr:match:1", "secret", UpstreamPriority.LIVE_SCORE).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).containsEntry("id", "sr:match:1");
+        verify(sportradar).fetchLocalReactive(eq(Sport.BASKETBALL), eq(SportradarResource.SUMMARY),
+                eq("sr:match:1"), eq(UpstreamPriority.LIVE_SCORE));
+    }
+
+    @Test
+    void peersWithoutAPriorityAreServedAtThePriorityOfTheResource() {
+        InternalFeedController controller = controller("secret");
+
+        assertThat(fetch(controller, SportradarResource.PLAY_BY_PLAY, "secret").getStatusCode().value())
+                .isEqualTo(200);
+        verify(sportradar).fetchLocalReactive(eq(Sport.BASKETBALL), eq(SportradarResource.PLAY_BY_PLAY),
+                eq("sr:match:1"), eq(UpstreamPriority.TIMELINE));
+    }
+
+    @Test
+    void priorityFollowsTheResource() {
+        assertThat(InternalFeedController.priority(SportradarResource.SUMMARY)).isEqualTo(UpstreamPriority.EVENT_DETAILS);
+        assertThat(InternalFeedController.priority(SportradarResource.TIMELINE)).isEqualTo(UpstreamPriority.TIMELINE);
+        assertThat(InternalFeedController.priority(SportradarResource.SCHEDULE)).isEqualTo(UpstreamPriority.PREFETCH);
+    }
+
+    private InternalFeedController controller(String token) {
+        return new InternalFeedController(payloads, sportradar,
+                new ClusterProperties(null, null, null, null, null, null, token));
+    }
+
+    private ResponseEntity<Map<String, Object>> fetch(InternalFeedController controller, SportradarResource resource,
+            String token) {
+        return controller.fetch(Sport.BASKETBALL, resource, "sr:match:1", token, null).block();
+    }
+}
@@ -0,0 +1,155 @@
+package com.sportslive.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.config.SharedCacheProperties;
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.cache.shared.SharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheSnapshotterTest {
+
+    private static final SnapshotKey HOME_WIN = new SnapshotKey(Sport.SOCCER, "sr:match:1");
+    private static final SnapshotKey DRAW = new SnapshotKey(Sport.BASKETBALL, "sr:match:2");
+    private static final SnapshotKey FAILED = new SnapshotKey(Sport.SOCCER, "sr:match:3");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsCompletedEntriesWithTheirRemainingLifetime() throws IOException {
+        Path file = dir.resolve("snapshot.bin");
+        CoalescingCacheFactory source = factory();
+        CoalescingCache<SnapshotKey, Score> scores = scores(source);
+        scores.get(HOME_WIN);
+        scores.get(DRAW);
+        assertThatThrownBy(() -> scores.get(FAILED)).isInstanceOf(ExternalServiceException.class);
+
+        snapshotter(source, file).snapshot();
+
+        CoalescingCacheFactory target = factory();
+        CoalescingCache<SnapshotKey, Score> restored = scores(target);
+        snapshotter(target, file).restore();
+
+        assertThat(restored.getIfReady(HOME_WIN)).isEqualTo(Score.of(2, 1));
+        assertThat(restored.getIfReady(DRAW)).isEqualTo(Score.of(1, 1));
+        assertThat(restored.getIfReady(FAILED)).isNull();
+        long remaining = restored.getNativeCache().synchronous().policy().expireVariably().orElseThrow()
+                .getExpiresAfter(HOME_WIN, TimeUnit.SECONDS).orElseThrow();
+        assertThat(remaining).isBetween(50L, 60L);
+        assertThat(Files.exists(dir.resolve("snapshot.bin.tmp"))).isFalse();
+    }
+
+    @Test
+    void laterSnapshotsReplaceTheFileInPlace() throws IOException {
+        Path file = dir.resolve("snapshot.bin");
+        CoalescingCacheFactory source = factory();
+        CoalescingCache<SnapshotKey, Score> scores = scores(source);
+        CacheSnapshotter snapshotter = snapshotter(source, file);
+        scores.get(HOME_WIN);
+        snapshotter.snapshot();
+        scores.get(DRAW);
+        snapshotter.snapshot();
+
+        CoalescingCacheFactory target = factory();
+        CoalescingCache<SnapshotKey, Score> restored = scores(target);
+        snapshotter(target, file).restore();
+
+        assertThat(restored.getIfReady(HOME_WIN)).isEqualTo(Score.of(2, 1));
+        assertThat(restored.getIfReady(DRAW)).isEqualTo(Score.of(1, 1));
+    }
+
+    @Test
+    void overlappingSnapshotsDoNotShareTheTempFile() throws Exception {
+        Path file = dir.resolve("snapshot.bin");
+        CoalescingCacheFactory source = factory();
+        CoalescingCache<SnapshotKey, Score> scores = scores(source);
+        scores.get(HOME_WIN);
+        scores.get(DRAW);
+        CacheSnapshotter snapshotter = snapshotter(source, file);
+
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                runs.add(writers.submit(() -> {
+                    snapshotter.snapshot();
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        CoalescingCacheFactory target = factory();
+        CoalescingCache<SnapshotKey, Score> restored = scores(target);
+        snapshotter(target, file).restore();
+
+        assertThat(restored.getIfReady(HOME_WIN)).isEqualTo(Score.of(2, 1));
+        assertThat(restored.getIfReady(DRAW)).isEqualTo(Score.of(1, 1));
+    }
+
+    @Test
+    void unreadableSnapshotStartsCold() throws IOException {
+        Path file = dir.resolve("snapshot.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+        CoalescingCacheFactory target = factory();
+        CoalescingCache<SnapshotKey, Score> restored = scores(target);
+
+        snapshotter(target, file).restore();
+
+        assertThat(restored.getIfReady(HOME_WIN)).isNull();
+    }
+
+    private static CoalescingCacheFactory factory() {
+        CacheProperties properties = new CacheProperties(Map.of("live-scores", new CacheProperties.Policy(100L,
+                new CacheProperties.StatusTtl(Duration.ofMinutes(1), null, null, null), null, null)), null);
+        return new CoalescingCacheFactory(new CaffeineCacheManager(), properties, Runnable::run,
+                new SimpleMeterRegistry(), new StaticListableBeanFactory().getBeanProvider(SharedCache.class),
+                new SharedValueCodec(new ObjectMapper()), new SharedCacheProperties(null, null, null, null, null));
+    }
+
+    private static CoalescingCache<SnapshotKey, Score> scores(CoalescingCacheFactory factory) {
+        return factory.create("live-scores", SnapshotKey.class, Score.class, key -> {
+            if (key.equals(FAILED)) {
+                throw new ExternalServiceException("Sportradar down", "unavailable");
+            }
+            return key.equals(HOME_WIN) ? Score.of(2, 1) : Score.of(1, 1);
+        }, (key, value) -> EventStatus.LIVE);
+    }
+
+    private static CacheSnapshotter snapshotter(CoalescingCacheFactory factory, Path file) {
+        return new CacheSnapshotter(factory, new Jackson2ObjectMapperBuilder(), new SimpleMeterRegistry(), true,
+                file, Duration.ofSeconds(30), Duration.ofSeconds(1));
+    }
+
+    record SnapshotKey(Sport sport, String eventId) implements EventCacheKey {
+    }
+}
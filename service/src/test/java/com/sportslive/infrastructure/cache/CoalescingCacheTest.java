@@ -0,0 +1,197 @@
+package com.sportslive.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.config.FeedProperties;
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.feed.FeedProvider;
+import com.sportslive.infrastructure.feed.FeedRouter;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingCacheTest {
+
+    private static final TestKey KEY = new TestKey(Sport.SOCCER, "sr:match:1");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicBoolean upstreamDown = new AtomicBoolean();
+    private final AtomicInteger homeScore = new AtomicInteger(2);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private CoalescingCache<TestKey, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.Policy policy = new CacheProperties.Policy(100L,
+                new CacheProperties.StatusTtl(Duration.ofSeconds(10), null, null, null), null,
+                new CacheProperties.Refresh(true, 0.5, Duration.ofSeconds(5)));
+        StatusAwareExpiry<TestKey, String> expiry = new StatusAwareExpiry<>(policy, (key, value) -> EventStatus.LIVE);
+        FeedRouter feeds = new FeedRouter(List.of(new StubProvider()), new FeedProperties(null, null, null),
+                new SimpleMeterRegistry());
+        AsyncLoadingCache<TestKey, String> nativeCache = Caffeine.newBuilder()
+                .ticker(nanos::get)
+                .executor(Runnable::run)
+                .expireAfter(expiry)
+                .buildAsync(key -> score(feeds.fetch(key.sport(), SportradarResource.SUMMARY, key.eventId(),
+                        UpstreamPriority.LIVE_SCORE)));
+        cache = new CoalescingCache<>("live-scores", nativeCache, expiry, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CoalescingCache<TestKey, String> slow = coalescing(key -> {
+            loads.incrementAndGet();
+            release.await();
+            return "2 - 1";
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> slow.get(KEY)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("2 - 1");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reactiveCallersShareTheInFlightLoad() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger blockingLoads = new AtomicInteger();
+        CoalescingCache<TestKey, String> reactive = coalescing(key -> {
+            blockingLoads.incrementAndGet();
+            return "0 - 0";
+        });
+        Function<TestKey, Mono<String>> loader = key -> {
+            loads.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        Mono<String> first = reactive.getAsync(KEY, loader).cache();
+        Mono<String> second = reactive.getAsync(KEY, loader).cache();
+        first.subscribe();
+        second.subscribe();
+        upstream.tryEmitValue("1 - 0");
+
+        assertThat(first.block(Duration.ofSeconds(1))).isEqualTo("1 - 0");
+        assertThat(second.block(Duration.ofSeconds(1))).isEqualTo("1 - 0");
+        assertThat(loads).hasValue(1);
+        assertThat(blockingLoads).hasValue(0);
+    }
+
+    @Test
+    void failedRefreshAheadKeepsCurrentValue() {
+        assertThat(cache.get(KEY)).isEqualTo("2 - 1");
+
+        upstreamDown.set(true);
+        advance(Duration.ofSeconds(6));
+
+        assertThat(cache.get(KEY)).isEqualTo("2 - 1");
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(cache.get(KEY)).isEqualTo("2 - 1");
+    }
+
+    @Test
+    void staleValueIsServedWhileReloadsFailAndReplacedOnceUpstreamRecovers() {
+        cache.get(KEY);
+
+        upstreamDown.set(true);
+        advance(Duration.ofSeconds(12));
+        assertThat(cache.get(KEY)).isEqualTo("2 - 1");
+
+        upstreamDown.set(false);
+        homeScore.set(3);
+        cache.get(KEY);
+        assertThat(cache.get(KEY)).isEqualTo("3 - 1");
+    }
+
+    @Test
+    void failedFirstLoadIsNotCached() {
+        upstreamDown.set(true);
+        assertThatThrownBy(() -> cache.get(KEY)).isInstanceOf(ExternalServiceException.class);
+        assertThat(cache.getIfReady(KEY)).isNull();
+
+        upstreamDown.set(false);
+        assertThat(cache.get(KEY)).isEqualTo("2 - 1");
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(TimeUnit.NANOSECONDS.convert(duration));
+    }
+
+    private static String score(Map<String, Object> summary) {
+        return summary.get("home_score") + " - " + summary.get("away_score");
+    }
+
+    private static CoalescingCache<TestKey, String> coalescing(CacheLoader<TestKey, String> loader) {
+        CacheProperties.Policy policy = new CacheProperties.Policy(100L, null, null, null);
+        StatusAwareExpiry<TestKey, String> expiry = new StatusAwareExpiry<>(policy, (key, value) -> EventStatus.LIVE);
+        AsyncLoadingCache<TestKey, String> nativeCache = Caffeine.newBuilder()
+                .expireAfter(expiry)
+                .buildAsync(loader);
+        return new CoalescingCache<>("live-scores", nativeCache, expiry, new SimpleMeterRegistry());
+    }
+
+    private record TestKey(Sport sport, String eventId) implements EventCacheKey {
+    }
+
+    private class StubProvider implements FeedProvider {
+
+        @Override
+        public String getName() {
+            return "sportradar";
+        }
+
+        @Override
+        public Map<String, Object> fetch(Sport sport, SportradarResource resource, String id,
+                UpstreamPriority priority) {
+            upstreamCalls.incrementAndGet();
+            if (upstreamDown.get()) {
+                throw new ExternalServiceException("Sportradar down", "unavailable");
+            }
+            return Map.of("home_score", homeScore.get(), "away_score", 1);
+        }
+
+        @Override
+        public Mono<Map<String, Object>> fetchReactive(Sport sport, SportradarResource resource, String id,
+                UpstreamPriority priority) {
+            return Mono.fromCallable(() -> fetch(sport, resource, id, priority));
+        }
+    }
+}
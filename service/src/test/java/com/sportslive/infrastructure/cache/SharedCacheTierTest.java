@@ -0,0 +1,91 @@
+package com.sportslive.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.cache.shared.InProcessSharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SharedCacheTierTest {
+
+    private static final TestKey KEY = new TestKey(Sport.SOCCER, "sr:match:1");
+
+    private final InProcessSharedCache shared = new InProcessSharedCache(100);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private SharedCacheTier<TestKey, Score> nodeA;
+    private SharedCacheTier<TestKey, Score> nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = tier("node-a");
+        nodeB = tier("node-b");
+    }
+
+    @Test
+    void failedLoadWritesNothingToTheSharedTier() {
+        assertThatThrownBy(() -> nodeA.load(KEY, key -> {
+            upstreamCalls.incrementAndGet();
+            throw new ExternalServiceException("Sportradar down", "unavailable");
+        })).isInstanceOf(ExternalServiceException.class);
+
+        assertThat(shared.get("test:live-scores:soccer:sr:match:1")).isNull();
+        assertThat(nodeB.load(KEY, this::upstream)).isEqualTo(Score.of(2, 1));
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void successfulLoadIsServedToOtherNodesWithoutUpstreamCall() {
+        nodeA.load(KEY, this::upstream);
+
+        assertThat(nodeB.load(KEY, this::upstream)).isEqualTo(Score.of(2, 1));
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void invalidationReachesNodesThatHoldTheKeyButNotTheSender() {
+        List<TestKey> invalidatedOnA = new ArrayList<>();
+        List<TestKey> invalidatedOnB = new ArrayList<>();
+        nodeA.listen(key -> { }, invalidatedOnA::add);
+        nodeB.listen(key -> { }, invalidatedOnB::add);
+        nodeA.load(KEY, this::upstream);
+        nodeB.load(KEY, this::upstream);
+
+        nodeA.invalidate(KEY);
+
+        assertThat(invalidatedOnB).containsExactly(KEY);
+        assertThat(invalidatedOnA).isEmpty();
+        assertThat(shared.get("test:live-scores:soccer:sr:match:1")).isNull();
+    }
+
+    private Score upstream(TestKey key) {
+        upstreamCalls.incrementAndGet();
+        return Score.of(2, 1);
+    }
+
+    private SharedCacheTier<TestKey, Score> tier(String nodeId) {
+        CacheProperties.Policy policy = new CacheProperties.Policy(100L,
+                new CacheProperties.StatusTtl(Duration.ofMinutes(1), null, null, null), null, null);
+        return new SharedCacheTier<>("live-scores", Score.class, shared,
+                new SharedValueCodec(new ObjectMapper(new SmileFactory())),
+                new StatusAwareExpiry<>(policy, (key, value) -> EventStatus.LIVE), (key, value) -> value,
+                nodeId, "test", new SimpleMeterRegistry());
+    }
+
+    private record TestKey(Sport sport, String eventId) implements EventCacheKey {
+    }
+}
@@ -0,0 +1,89 @@
+package com.sportslive.infrastructure.cache;
+
+import com.sportslive.config.CacheProperties;
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Sport;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusAwareExpiryTest {
+
+    private static final TestKey SOCCER = new TestKey(Sport.SOCCER, "sr:match:1");
+    private static final TestKey TENNIS = new TestKey(Sport.TENNIS, "sr:match:2");
+    private static final CacheProperties.StatusTtl TTL = new CacheProperties.StatusTtl(
+            Duration.ofSeconds(10), Duration.ofMinutes(5), Duration.ofHours(1), Duration.ofMinutes(2));
+
+    @Test
+    void ttlFollowsTheStatusOfTheValue() {
+        StatusAwareExpiry<TestKey, EventStatus> expiry = expiry(null);
+
+        assertThat(expiry.expireAfterCreate(SOCCER, EventStatus.LIVE, 0)).isEqualTo(seconds(10));
+        assertThat(expiry.expireAfterCreate(SOCCER, EventStatus.SCHEDULED, 0)).isEqualTo(seconds(300));
+        assertThat(expiry.expireAfterCreate(SOCCER, EventStatus.FINISHED, 0)).isEqualTo(seconds(3600));
+        assertThat(expiry.expireAfterCreate(SOCCER, EventStatus.CANCELLED, 0)).isEqualTo(seconds(3600));
+        assertThat(expiry.expireAfterCreate(SOCCER, null, 0)).isEqualTo(seconds(120));
+    }
+
+    @Test
+    void reloadRecomputesTheTtlAndReadsLeaveItUnchanged() {
+        StatusAwareExpiry<TestKey, EventStatus> expiry = expiry(null);
+
+        assertThat(expiry.expireAfterUpdate(SOCCER, EventStatus.FINISHED, 0, seconds(4))).isEqualTo(seconds(3600));
+        assertThat(expiry.expireAfterRead(SOCCER, EventStatus.LIVE, 0, seconds(4))).isEqualTo(seconds(4));
+    }
+
+    @Test
+    void sportOverridesOnlyReplaceTheStatusesTheySet() {
+        CacheProperties.Policy policy = new CacheProperties.Policy(null, TTL,
+                Map.of("tennis", new CacheProperties.StatusTtl(Duration.ofSeconds(3), null, null, null)), null);
+        StatusAwareExpiry<TestKey, EventStatus> expiry = new StatusAwareExpiry<>(policy, (key, value) -> value);
+
+        assertThat(expiry.expireAfterCreate(TENNIS, EventStatus.LIVE, 0)).isEqualTo(seconds(3));
+        assertThat(expiry.expireAfterCreate(TENNIS, EventStatus.FINISHED, 0)).isEqualTo(seconds(3600));
+        assertThat(expiry.expireAfterCreate(SOCCER, EventStatus.LIVE, 0)).isEqualTo(seconds(10));
+    }
+
+    @Test
+    void refreshAheadExtendsTheLifetimeByTheGraceAndGradesFreshness() {
+        StatusAwareExpiry<TestKey, EventStatus> expiry = expiry(
+                new CacheProperties.Refresh(true, 0.5, Duration.ofSeconds(4)));
+
+        assertThat(expiry.expireAfterCreate(SOCCER, EventStatus.LIVE, 0)).isEqualTo(seconds(14));
+        assertThat(expiry.freshness(SOCCER, EventStatus.LIVE, seconds(14))).isEqualTo(Freshness.FRESH);
+        assertThat(expiry.freshness(SOCCER, EventStatus.LIVE, seconds(10))).isEqualTo(Freshness.FRESH);
+        assertThat(expiry.freshness(SOCCER, EventStatus.LIVE, seconds(9))).isEqualTo(Freshness.REFRESH_DUE);
+        assertThat(expiry.freshness(SOCCER, EventStatus.LIVE, seconds(4))).isEqualTo(Freshness.STALE);
+    }
+
+    @Test
+    void withoutRefreshAheadEntriesAreAlwaysFresh() {
+        StatusAwareExpiry<TestKey, EventStatus> expiry = expiry(null);
+
+        assertThat(expiry.isRefreshAhead()).isFalse();
+        assertThat(expiry.freshness(SOCCER, EventStatus.LIVE, 1)).isEqualTo(Freshness.FRESH);
+    }
+
+    @Test
+    void sharedValuesAreOnlyAdoptedBeforeTheyWouldBeDueForRefresh() {
+        StatusAwareExpiry<TestKey, EventStatus> expiry = expiry(
+                new CacheProperties.Refresh(true, 0.75, Duration.ofSeconds(4)));
+
+        assertThat(expiry.isFreshShared(SOCCER, EventStatus.LIVE, Duration.ofSeconds(2))).isTrue();
+        assertThat(expiry.isFreshShared(SOCCER, EventStatus.LIVE, Duration.ofMillis(2500))).isFalse();
+    }
+
+    private static StatusAwareExpiry<TestKey, EventStatus> expiry(CacheProperties.Refresh refresh) {
+        return new StatusAwareExpiry<>(new CacheProperties.Policy(null, TTL, null, refresh), (key, value) -> value);
+    }
+
+    private static long seconds(long seconds) {
+        return Duration.ofSeconds(seconds).toNanos();
+    }
+
+    private record TestKey(Sport sport, String eventId) implements EventCacheKey {
+    }
+}
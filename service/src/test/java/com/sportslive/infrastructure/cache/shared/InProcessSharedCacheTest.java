@@ -0,0 +1,47 @@
+package com.sportslive.infrastructure.cache.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InProcessSharedCacheTest {
+
+    private final InProcessSharedCache cache = new InProcessSharedCache(100);
+
+    @Test
+    void storesAndEvictsEntries() {
+        cache.put("scores:soccer:1", new byte[] {1, 2, 3}, Duration.ofMinutes(1));
+        assertThat(cache.get("scores:soccer:1")).containsExactly(1, 2, 3);
+
+        cache.evict("scores:soccer:1");
+        assertThat(cache.get("scores:soccer:1")).isNull();
+    }
+
+    @Test
+    void entriesExpireAfterTheirOwnTtl() throws InterruptedException {
+        cache.put("short", new byte[] {1}, Duration.ofMillis(1));
+        cache.put("long", new byte[] {2}, Duration.ofMinutes(1));
+
+        Thread.sleep(20);
+
+        assertThat(cache.get("short")).isNull();
+        assertThat(cache.get("long")).containsExactly(2);
+    }
+
+    @Test
+    void publishedMessagesReachEverySubscriber() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        cache.subscribe(first::add);
+        cache.subscribe(second::add);
+
+        cache.publish("node-a I scores:soccer:1");
+
+        assertThat(first).containsExactly("node-a I scores:soccer:1");
+        assertThat(second).containsExactly("node-a I scores:soccer:1");
+    }
+}
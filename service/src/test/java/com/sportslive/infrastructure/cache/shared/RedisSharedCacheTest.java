@@ -0,0 +1,69 @@
+package com.sportslive.infrastructure.cache.shared;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSharedCacheTest {
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private RedisSharedCache nodeA;
+    private RedisSharedCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        String uri = "redis://" + redis.getHost() + ":" + redis.getMappedPort(6379);
+        nodeA = new RedisSharedCache(uri, "cache-test", Duration.ofSeconds(2));
+        nodeB = new RedisSharedCache(uri, "cache-test", Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void valuesWrittenByOneNodeAreReadByAnother() {
+        nodeA.put("scores:soccer:1", new byte[] {1, 2, 3}, Duration.ofMinutes(1));
+
+        assertThat(nodeB.get("scores:soccer:1")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void entriesExpireAndCanBeEvicted() throws InterruptedException {
+        nodeA.put("short", new byte[] {1}, Duration.ofMillis(50));
+        nodeA.put("evicted", new byte[] {2}, Duration.ofMinutes(1));
+
+        nodeB.evict("evicted");
+        Thread.sleep(200);
+
+        assertThat(nodeA.get("short")).isNull();
+        assertThat(nodeA.get("evicted")).isNull();
+    }
+
+    @Test
+    void invalidationMessagesReachOtherNodes() throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        nodeB.subscribe(received::add);
+
+        nodeA.publish("node-a I scores:soccer:1");
+
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo("node-a I scores:soccer:1");
+    }
+}
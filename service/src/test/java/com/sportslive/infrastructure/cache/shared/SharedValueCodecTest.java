@@ -0,0 +1,33 @@
+package com.sportslive.infrastructure.cache.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sportslive.domain.model.Score;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec.SharedValue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedValueCodecTest {
+
+    private final SharedValueCodec codec = new SharedValueCodec(new ObjectMapper(new SmileFactory()));
+
+    @Test
+    void roundTripsValueAndWriteTime() {
+        byte[] bytes = codec.encode(Score.of(2, 1), 1_700_000_000_000L);
+
+        SharedValue<Score> decoded = codec.decode(bytes, Score.class);
+
+        assertThat(decoded.value()).isEqualTo(Score.of(2, 1));
+        assertThat(decoded.writtenAt()).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void ignoresUnknownFormatsAndTruncatedEntries() {
+        byte[] bytes = codec.encode(Score.of(2, 1), 0L);
+        bytes[0] = 99;
+
+        assertThat(codec.decode(bytes, Score.class)).isNull();
+        assertThat(codec.decode(new byte[] {1, 0, 0}, Score.class)).isNull();
+    }
+}
@@ -0,0 +1,53 @@
+package com.sportslive.infrastructure.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final ClusterNode A = new ClusterNode("a", "http://a:8080");
+    private static final ClusterNode B = new ClusterNode("b", "http://b:8080");
+    private static final ClusterNode C = new ClusterNode("c", "http://c:8080");
+    private static final List<String> KEYS = IntStream.range(0, 3000).mapToObj(i -> "soccer:sr:match:" + i).toList();
+
+    @Test
+    void ownershipIsStableAndSpreadAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(A, B, C), 128);
+        ConsistentHashRing sameMembers = new ConsistentHashRing(List.of(C, A, B), 128);
+
+        Map<ClusterNode, Integer> owned = new HashMap<>();
+        for (String key : KEYS) {
+            assertThat(sameMembers.owner(key)).isEqualTo(ring.owner(key));
+            owned.merge(ring.owner(key), 1, Integer::sum);
+        }
+
+        assertThat(owned).containsOnlyKeys(A, B, C);
+        assertThat(owned.values()).allSatisfy(count -> assertThat(count).isBetween(600, 1400));
+    }
+
+    @Test
+    void leavingNodeOnlyMovesItsOwnKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of(A, B, C), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(A, B), 128);
+
+        for (String key : KEYS) {
+            ClusterNode owner = before.owner(key);
+            if (!owner.equals(C)) {
+                assertThat(after.owner(key)).isEqualTo(owner);
+            } else {
+                assertThat(after.owner(key)).isIn(A, B);
+            }
+        }
+    }
+
+    @Test
+    void emptyRingHasNoOwner() {
+        assertThat(new ConsistentHashRing(List.of(), 128).owner("soccer:sr:match:1")).isNull();
+    }
+}
@@ -0,0 +1,132 @@
+package com.sportslive.infrastructure.cluster;
+
+import com.sportslive.config.ClusterProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UpstreamOwnershipTest {
+
+    private static final ClusterNode SELF = new ClusterNode("a", "http://a:8080");
+    private static final ClusterNode PEER = new ClusterNode("b", "http://b:8080");
+    private static final Map<String, Object> LOCAL = Map.of("source", "local");
+    private static final Map<String, Object> REMOTE = Map.of("source", "peer");
+
+    private PeerFeedClient peers;
+    private UpstreamOwnership ownership;
+
+    @BeforeEach
+    void setUp() {
+        peers = mock(PeerFeedClient.class);
+        ClusterProperties properties = new ClusterProperties(ClusterProperties.MembershipMode.STATIC, "a",
+                List.of(SELF, PEER), 128, Duration.ofSeconds(1), Duration.ofMinutes(1), "secret");
+        ownership = new UpstreamOwnership(new StaticMembership(SELF, List.of(SELF, PEER)), peers, properties,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void ownedEventsAreFetchedLocally() {
+        String id = ownedBy(SELF);
+
+        assertThat(fetch(id)).isEqualTo(LOCAL);
+        verify(peers, never()).fetch(any(), any(), any(), anyString(), any());
+    }
+
+    @Test
+    void eventsOwnedByAPeerAreForwarded() {
+        String id = ownedBy(PEER);
+        when(peerFetch(id)).thenReturn(Mono.just(REMOTE));
+
+        assertThat(fetch(id)).isEqualTo(REMOTE);
+        assertThat(fetchReactive(id)).isEqualTo(REMOTE);
+    }
+
+    @Test
+    void unreachablePeerFallsBackLocallyAndIsTakenOffTheRing() {
+        String id = ownedBy(PEER);
+        when(peerFetch(id)).thenReturn(Mono.error(
+                new WebClientRequestException(new ConnectException("refused"), HttpMethod.GET,
+                        URI.create(PEER.url()), HttpHeaders.EMPTY)));
+
+        assertThat(fetchReactive(id)).isEqualTo(LOCAL);
+
+        assertThat(ownership.remoteOwner(Sport.SOCCER, id)).isEmpty();
+        assertThat(fetch(id)).isEqualTo(LOCAL);
+        verify(peers, times(1)).fetch(PEER, Sport.SOCCER, SportradarResource.SUMMARY, id, UpstreamPriority.LIVE_SCORE);
+    }
+
+    @Test
+    void peerHttpErrorsAreNotRetriedLocally() {
+        String id = ownedBy(PEER);
+        when(peerFetch(id)).thenReturn(Mono.error(
+                WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null)));
+
+        assertThatThrownBy(() -> fetch(id)).isInstanceOf(WebClientResponseException.class);
+        assertThat(ownership.remoteOwner(Sport.SOCCER, id)).contains(PEER);
+    }
+
+    @Test
+    void ownerFollowsMembershipChanges() {
+        String id = ownedBy(PEER);
+        InMemoryMembership membership = new InMemoryMembership(SELF, List.of(SELF));
+        UpstreamOwnership dynamic = new UpstreamOwnership(membership, peers, new ClusterProperties(
+                ClusterProperties.MembershipMode.MEMORY, "a", List.of(SELF), 128, null, null, "secret"),
+                new SimpleMeterRegistry());
+
+        assertThat(dynamic.remoteOwner(Sport.SOCCER, id)).isEmpty();
+
+        membership.join(PEER);
+        assertThat(dynamic.remoteOwner(Sport.SOCCER, id)).contains(PEER);
+
+        membership.leave(PEER.id());
+        assertThat(dynamic.remoteOwner(Sport.SOCCER, id)).isEmpty();
+    }
+
+    private Map<String, Object> fetch(String id) {
+        return ownership.fetch(Sport.SOCCER, SportradarResource.SUMMARY, id, UpstreamPriority.LIVE_SCORE, () -> LOCAL);
+    }
+
+    private Map<String, Object> fetchReactive(String id) {
+        return ownership.fetchReactive(Sport.SOCCER, SportradarResource.SUMMARY, id, UpstreamPriority.LIVE_SCORE,
+                () -> Mono.just(LOCAL)).block();
+    }
+
+    private Mono<Map<String, Object>> peerFetch(String id) {
+        return peers.fetch(PEER, Sport.SOCCER, SportradarResource.SUMMARY, id, UpstreamPriority.LIVE_SCORE);
+    }
+
+    private String ownedBy(ClusterNode node) {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(SELF, PEER), 128);
+        return IntStream.range(0, 1000)
+                .mapToObj(i -> "sr:match:" + i)
+                .filter(id -> ring.owner("soccer:" + id).equals(node))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,121 @@
+package com.sportslive.infrastructure.feed;
+
+import com.sportslive.config.FeedProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedRouterTest {
+
+    private final StubProvider primary = new StubProvider("primary");
+    private final StubProvider backup = new StubProvider("backup");
+
+    @Test
+    void failedProviderIsDemotedUntilItsProbeIsDue() {
+        FeedRouter router = router(RoutingMode.FAILOVER, 2, Duration.ofHours(1));
+        primary.down.set(true);
+
+        assertThat(fetch(router)).containsEntry("provider", "backup");
+        primary.down.set(false);
+        assertThat(fetch(router)).containsEntry("provider", "backup");
+
+        assertThat(primary.calls).hasValue(1);
+        assertThat(backup.calls).hasValue(2);
+    }
+
+    @Test
+    void probeLetsRecoveredProviderWinItsPlaceBack() {
+        FeedRouter router = router(RoutingMode.FAILOVER, 2, Duration.ZERO);
+        primary.down.set(true);
+        fetch(router);
+
+        primary.down.set(false);
+        assertThat(fetch(router)).containsEntry("provider", "primary");
+        assertThat(fetch(router)).containsEntry("provider", "primary");
+
+        assertThat(backup.calls).hasValue(1);
+    }
+
+    @Test
+    void raceProbesProvidersBeyondTheRaceWidth() {
+        primary.delay = Duration.ofMillis(50);
+        FeedRouter idle = router(RoutingMode.RACE, 1, Duration.ofHours(1));
+        fetch(idle);
+        assertThat(backup.calls).hasValue(0);
+
+        FeedRouter probing = router(RoutingMode.RACE, 1, Duration.ZERO);
+        fetch(probing);
+        assertThat(backup.calls).hasValue(1);
+    }
+
+    @Test
+    void noProviderAnsweringFailsWithTheLastError() {
+        FeedRouter router = router(RoutingMode.FAILOVER, 2, Duration.ofHours(1));
+        primary.down.set(true);
+        backup.down.set(true);
+
+        assertThatThrownBy(() -> fetch(router))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("backup");
+        assertThatThrownBy(() -> router.fetchReactive(Sport.SOCCER, SportradarResource.SUMMARY, "sr:match:1",
+                UpstreamPriority.LIVE_SCORE).block())
+                .isInstanceOf(ExternalServiceException.class);
+    }
+
+    private Map<String, Object> fetch(FeedRouter router) {
+        return router.fetch(Sport.SOCCER, SportradarResource.SUMMARY, "sr:match:1", UpstreamPriority.LIVE_SCORE);
+    }
+
+    private FeedRouter router(RoutingMode mode, int raceWidth, Duration probeInterval) {
+        FeedProperties properties = new FeedProperties(new FeedProperties.Routing(mode,
+                List.of("primary", "backup"), Duration.ofSeconds(1), raceWidth, probeInterval), null, null);
+        return new FeedRouter(List.of(primary, backup), properties, new SimpleMeterRegistry());
+    }
+
+    private static class StubProvider implements FeedProvider {
+
+        private final String name;
+        private final AtomicBoolean down = new AtomicBoolean();
+        private final AtomicInteger calls = new AtomicInteger();
+        private Duration delay = Duration.ZERO;
+
+        StubProvider(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Map<String, Object> fetch(Sport sport, SportradarResource resource, String id,
+                UpstreamPriority priority) {
+            calls.incrementAndGet();
+            if (down.get()) {
+                throw new ExternalServiceException(name + " unavailable", "unavailable");
+            }
+            return Map.of("provider", name);
+        }
+
+        @Override
+        public Mono<Map<String, Object>> fetchReactive(Sport sport, SportradarResource resource, String id,
+                UpstreamPriority priority) {
+            return Mono.fromCallable(() -> fetch(sport, resource, id, priority))
+                    .delaySubscription(delay);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.domain.model.Sport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SportradarPayloadCacheTest {
+
+    private static final int CALLERS = 16;
+    private static final Map<String, Object> SUMMARY = Map.of("sport_event", Map.of("id", "sr:match:1"));
+
+    private final SportradarPayloadCache payloads = new SportradarPayloadCache(new SimpleMeterRegistry(),
+            Duration.ofSeconds(2), 100);
+
+    @Test
+    void concurrentLookupsShareOneUpstreamFetch() throws Exception {
+        CountDownLatch started = new CountDownLatch(CALLERS);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fetches = new AtomicInteger();
+        Function<String, Map<String, Object>> fetcher = id -> {
+            fetches.incrementAndGet();
+            await(release);
+            return SUMMARY;
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Map<String, Object>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> {
+                    started.countDown();
+                    return payloads.get(Sport.SOCCER, SportradarResource.SUMMARY, "sr:match:1", fetcher);
+                }));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Map<String, Object>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(SUMMARY);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void concurrentReactiveLookupsShareOneUpstreamFetch() {
+        Sinks.One<Map<String, Object>> upstream = Sinks.one();
+        AtomicInteger fetches = new AtomicInteger();
+        Function<String, Mono<Map<String, Object>>> fetcher = id -> {
+            fetches.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        List<Mono<Map<String, Object>>> lookups = IntStream.range(0, CALLERS)
+                .mapToObj(i -> payloads.getReactive(Sport.SOCCER, SportradarResource.SUMMARY, "sr:match:1", fetcher)
+                        .cache())
+                .toList();
+        lookups.forEach(lookup -> lookup.subscribe());
+        upstream.tryEmitValue(SUMMARY);
+
+        for (Mono<Map<String, Object>> lookup : lookups) {
+            assertThat(lookup.block(Duration.ofSeconds(1))).isSameAs(SUMMARY);
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void eachResourceAndIdIsFetchedSeparately() {
+        AtomicInteger fetches = new AtomicInteger();
+        Function<String, Map<String, Object>> fetcher = id -> {
+            fetches.incrementAndGet();
+            return Map.of("id", id);
+        };
+
+        payloads.get(Sport.SOCCER, SportradarResource.SUMMARY, "sr:match:1", fetcher);
+        payloads.get(Sport.SOCCER, SportradarResource.SUMMARY, "sr:match:1", fetcher);
+        payloads.get(Sport.SOCCER, SportradarResource.TIMELINE, "sr:match:1", fetcher);
+        payloads.get(Sport.SOCCER, SportradarResource.SUMMARY, "sr:match:2", fetcher);
+
+        assertThat(fetches).hasValue(3);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.exception.UpstreamThrottledException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamBucketTest {
+
+    private static final Duration DEADLINE = Duration.ofSeconds(2);
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+    }
+
+    @Test
+    void burstIsGrantedImmediatelyAndTheRestQueues() {
+        UpstreamBucket bucket = new UpstreamBucket("soccer", 1, 2, timer);
+
+        assertThat(bucket.acquire(UpstreamPriority.LIVE_SCORE, DEADLINE)).isDone();
+        assertThat(bucket.acquire(UpstreamPriority.LIVE_SCORE, DEADLINE)).isDone();
+        CompletableFuture<Void> third = bucket.acquire(UpstreamPriority.LIVE_SCORE, DEADLINE);
+
+        assertThat(third).isNotDone();
+        assertThat(bucket.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void higherPriorityWaitersAreServedFirst() throws Exception {
+        UpstreamBucket bucket = new UpstreamBucket("soccer", 20, 1, timer);
+        bucket.acquire(UpstreamPriority.LIVE_SCORE, DEADLINE);
+        List<UpstreamPriority> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> statistics = bucket.acquire(UpstreamPriority.STATISTICS, DEADLINE)
+                .thenRun(() -> order.add(UpstreamPriority.STATISTICS));
+        CompletableFuture<Void> details = bucket.acquire(UpstreamPriority.EVENT_DETAILS, DEADLINE)
+                .thenRun(() -> order.add(UpstreamPriority.EVENT_DETAILS));
+        CompletableFuture<Void> live = bucket.acquire(UpstreamPriority.LIVE_SCORE, DEADLINE)
+                .thenRun(() -> order.add(UpstreamPriority.LIVE_SCORE));
+
+        CompletableFuture.allOf(statistics, details, live).get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly(UpstreamPriority.LIVE_SCORE, UpstreamPriority.EVENT_DETAILS,
+                UpstreamPriority.STATISTICS);
+    }
+
+    @Test
+    void requestsThatCannotBeServedBeforeTheirDeadlineAreRejectedUpFront() {
+        UpstreamBucket bucket = new UpstreamBucket("tennis", 1, 1, timer);
+        bucket.acquire(UpstreamPriority.LIVE_SCORE, DEADLINE);
+
+        CompletableFuture<Void> rejected = bucket.acquire(UpstreamPriority.STATISTICS, Duration.ofMillis(100));
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UpstreamThrottledException.class);
+        assertThat(bucket.queued()).isZero();
+    }
+
+    @Test
+    void tokensRefillUpToTheBurst() throws InterruptedException {
+        UpstreamBucket bucket = new UpstreamBucket("basketball", 50, 1, timer);
+        bucket.acquire(UpstreamPriority.LIVE_SCORE, DEADLINE);
+        assertThat(bucket.availableTokens()).isLessThan(1);
+
+        Thread.sleep(100);
+
+        assertThat(bucket.availableTokens()).isEqualTo(1.0);
+    }
+}
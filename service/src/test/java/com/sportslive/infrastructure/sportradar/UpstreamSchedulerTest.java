@@ -0,0 +1,79 @@
+package com.sportslive.infrastructure.sportradar;
+
+import com.sportslive.config.UpstreamSchedulerProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.UpstreamThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamSchedulerTest {
+
+    private UpstreamScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    void disabledSchedulerAdmitsEverything() {
+        scheduler = scheduler(false, 1, 1, 0);
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.acquire(Sport.SOCCER, UpstreamPriority.PREFETCH);
+        }
+        assertThat(scheduler.hasSpareCapacity(Sport.SOCCER, 100)).isTrue();
+    }
+
+    @Test
+    void eachSportHasItsOwnBucket() {
+        scheduler = scheduler(true, 0.1, 1, 0);
+
+        scheduler.acquire(Sport.SOCCER, UpstreamPriority.LIVE_SCORE);
+
+        assertThatThrownBy(() -> scheduler.acquire(Sport.SOCCER, UpstreamPriority.LIVE_SCORE))
+                .isInstanceOf(UpstreamThrottledException.class);
+        scheduler.acquire(Sport.TENNIS, UpstreamPriority.LIVE_SCORE);
+    }
+
+    @Test
+    void spareCapacityRequiresTokensLeft() {
+        scheduler = scheduler(true, 0.1, 3, 0);
+
+        assertThat(scheduler.hasSpareCapacity(Sport.BASKETBALL, 2)).isTrue();
+        scheduler.acquire(Sport.BASKETBALL, UpstreamPriority.LIVE_SCORE);
+        scheduler.acquire(Sport.BASKETBALL, UpstreamPriority.LIVE_SCORE);
+
+        assertThat(scheduler.hasSpareCapacity(Sport.BASKETBALL, 2)).isFalse();
+        assertThat(scheduler.hasSpareCapacity(Sport.SOCCER, 2)).isTrue();
+    }
+
+    @Test
+    void quotaReserveIsKeptForLiveScoresAndTimelines() {
+        scheduler = scheduler(true, 100, 100, 4);
+
+        scheduler.acquire(Sport.SOCCER, UpstreamPriority.EVENT_DETAILS);
+        scheduler.acquire(Sport.SOCCER, UpstreamPriority.EVENT_DETAILS);
+
+        assertThatThrownBy(() -> scheduler.acquire(Sport.SOCCER, UpstreamPriority.PREFETCH))
+                .isInstanceOf(UpstreamThrottledException.class);
+        scheduler.acquire(Sport.SOCCER, UpstreamPriority.LIVE_SCORE);
+        scheduler.acquire(Sport.SOCCER, UpstreamPriority.TIMELINE);
+        assertThatThrownBy(() -> scheduler.acquire(Sport.SOCCER, UpstreamPriority.LIVE_SCORE))
+                .isInstanceOf(UpstreamThrottledException.class);
+    }
+
+    private static UpstreamScheduler scheduler(boolean enabled, double rate, int burst, long monthlyQuota) {
+        UpstreamSchedulerProperties properties = new UpstreamSchedulerProperties(enabled,
+                new UpstreamSchedulerProperties.Limit(rate, burst), null,
+                Map.of(UpstreamPriority.LIVE_SCORE, Duration.ofMillis(200)), monthlyQuota, 0.5);
+        return new UpstreamScheduler(properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,104 @@
+package com.sportslive.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportslive.adapter.SportAdapter;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.config.SharedCacheProperties;
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Score;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.domain.model.SportEvent;
+import com.sportslive.infrastructure.cache.CoalescingCacheFactory;
+import com.sportslive.infrastructure.cache.shared.SharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventServiceKickoffTest {
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final SportAdapter adapter = mock(SportAdapter.class);
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties(Map.of(
+                "event-details", policy(Duration.ofSeconds(30), Duration.ofMinutes(10)),
+                "live-scores", policy(Duration.ofSeconds(5), Duration.ofMinutes(1))),
+                Duration.ofMinutes(10));
+        CoalescingCacheFactory factory = new CoalescingCacheFactory(cacheManager, properties, Runnable::run,
+                new SimpleMeterRegistry(), new StaticListableBeanFactory().getBeanProvider(SharedCache.class),
+                new SharedValueCodec(new ObjectMapper()), new SharedCacheProperties(null, null, null, null, null));
+        when(adapter.getSupportedSport()).thenReturn(Sport.SOCCER);
+        when(adapter.getScore("sr:match:1")).thenReturn(Score.of(0, 0));
+        eventService = new EventService(Map.of("soccer", adapter), Map.of(), factory, properties,
+                Duration.ofHours(6));
+    }
+
+    @Test
+    void scoreUsesLiveTtlInsideKickoffWindowEvenWhileEventIsScheduled() {
+        when(adapter.getEvent("sr:match:1")).thenReturn(scheduledEvent(Duration.ofMinutes(5)));
+
+        eventService.getEvent("soccer", "sr:match:1");
+        eventService.getScore("soccer", "sr:match:1");
+
+        assertThat(expiresAfterSeconds("event-details")).isLessThanOrEqualTo(30);
+        assertThat(expiresAfterSeconds("live-scores")).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void scoreKeepsScheduledTtlOutsideKickoffWindow() {
+        when(adapter.getEvent("sr:match:1")).thenReturn(scheduledEvent(Duration.ofHours(2)));
+
+        eventService.getEvent("soccer", "sr:match:1");
+        eventService.getScore("soccer", "sr:match:1");
+
+        assertThat(expiresAfterSeconds("event-details")).isGreaterThan(500);
+        assertThat(expiresAfterSeconds("live-scores")).isGreaterThan(50);
+    }
+
+    @Test
+    void scheduledStatusPastKickoffIsTreatedAsLive() {
+        when(adapter.getEvent("sr:match:1")).thenReturn(scheduledEvent(Duration.ofMinutes(-3)));
+
+        eventService.getEvent("soccer", "sr:match:1");
+        eventService.getScore("soccer", "sr:match:1");
+
+        assertThat(expiresAfterSeconds("live-scores")).isLessThanOrEqualTo(5);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long expiresAfterSeconds(String cacheName) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cacheManager.getCache(cacheName)
+                        .getNativeCache();
+        return cache.policy().expireVariably().orElseThrow()
+                .getExpiresAfter(new EventService.EventKey(Sport.SOCCER, "sr:match:1"), TimeUnit.SECONDS)
+                .orElseThrow();
+    }
+
+    private static SportEvent scheduledEvent(Duration untilStart) {
+        LocalDateTime start = LocalDateTime.now(ZoneOffset.UTC).plus(untilStart);
+        return new SportEvent("sr:match:1", Sport.SOCCER, EventStatus.SCHEDULED, null, List.of(), Score.of(0, 0),
+                null, start, null, null, null);
+    }
+
+    private static CacheProperties.Policy policy(Duration live, Duration scheduled) {
+        return new CacheProperties.Policy(100L, new CacheProperties.StatusTtl(live, scheduled, null, null), null,
+                null);
+    }
+}
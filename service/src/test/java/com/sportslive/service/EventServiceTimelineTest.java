@@ -0,0 +1,59 @@
+package com.sportslive.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportslive.adapter.SportAdapter;
+import com.sportslive.config.CacheProperties;
+import com.sportslive.config.SharedCacheProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.domain.model.Timeline;
+import com.sportslive.domain.model.TimelineDelta;
+import com.sportslive.domain.model.TimelineEvent;
+import com.sportslive.infrastructure.cache.CoalescingCacheFactory;
+import com.sportslive.infrastructure.cache.shared.SharedCache;
+import com.sportslive.infrastructure.cache.shared.SharedValueCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventServiceTimelineTest {
+
+    private static final TimelineEvent KICK_OFF = event("1", "period_start");
+    private static final TimelineEvent GOAL = event("2", "score_change");
+
+    @Test
+    void evictedLogIsRebuiltFromTheCachedTimeline() {
+        SportAdapter adapter = mock(SportAdapter.class);
+        when(adapter.getSupportedSport()).thenReturn(Sport.SOCCER);
+        when(adapter.getTimeline(eq("sr:match:1"), any()))
+                .thenReturn(new Timeline("sr:match:1", List.of(KICK_OFF, GOAL), null));
+        CacheProperties properties = new CacheProperties(Map.of(), Duration.ofMinutes(10));
+        CoalescingCacheFactory factory = new CoalescingCacheFactory(new CaffeineCacheManager(), properties,
+                Runnable::run, new SimpleMeterRegistry(),
+                new StaticListableBeanFactory().getBeanProvider(SharedCache.class),
+                new SharedValueCodec(new ObjectMapper()), new SharedCacheProperties(null, null, null, null, null));
+        EventService eventService = new EventService(Map.of("soccer", adapter), Map.of(), factory, properties,
+                Duration.ZERO);
+
+        eventService.getTimeline("soccer", "sr:match:1");
+        TimelineDelta delta = eventService.getTimelineSince("soccer", "sr:match:1", "1");
+
+        assertThat(delta.reset()).isFalse();
+        assertThat(delta.events()).containsExactly(GOAL);
+        assertThat(delta.cursor()).isEqualTo("2");
+    }
+
+    private static TimelineEvent event(String id, String type) {
+        return new TimelineEvent(id, type, null, null, null, null, null, null, null, null, null);
+    }
+}
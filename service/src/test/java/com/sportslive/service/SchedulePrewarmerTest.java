@@ -0,0 +1,150 @@
+package com.sportslive.service;
+
+import com.sportslive.config.PrewarmProperties;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.exception.ExternalServiceException;
+import com.sportslive.infrastructure.feed.FeedRouter;
+import com.sportslive.infrastructure.sportradar.SportradarPayloadCache;
+import com.sportslive.infrastructure.sportradar.SportradarResource;
+import com.sportslive.infrastructure.sportradar.UpstreamPriority;
+import com.sportslive.infrastructure.sportradar.UpstreamScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SchedulePrewarmerTest {
+
+    private final FeedRouter feeds = mock(FeedRouter.class);
+    private final UpstreamScheduler upstreamScheduler = mock(UpstreamScheduler.class);
+    private final EventService eventService = mock(EventService.class);
+    private final Map<String, Instant> starts = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        starts.put("started-long-ago", now.minus(Duration.ofMinutes(30)));
+        starts.put("just-started", now.minus(Duration.ofMinutes(5)));
+        starts.put("kicks-off-soon", now.plus(Duration.ofMinutes(5)));
+        starts.put("later-today", now.plus(Duration.ofMinutes(30)));
+        starts.put("next-hour", now.plus(Duration.ofMinutes(90)));
+        starts.put("beyond-window", now.plus(Duration.ofHours(3)));
+        when(upstreamScheduler.hasSpareCapacity(eq(Sport.SOCCER), anyDouble())).thenReturn(true);
+        when(feeds.fetch(eq(Sport.SOCCER), eq(SportradarResource.SCHEDULE), anyString(), eq(UpstreamPriority.PREFETCH)))
+                .thenAnswer(invocation -> schedule(LocalDate.parse(invocation.getArgument(2))));
+        when(feeds.fetch(eq(Sport.SOCCER), eq(SportradarResource.SUMMARY), anyString(), eq(UpstreamPriority.PREFETCH)))
+                .thenAnswer(invocation -> Map.of("sport_event", Map.of("id", invocation.getArgument(2))));
+    }
+
+    @Test
+    void warmsEventsInsideTheWindowAndScoresNearTheStart() {
+        prewarmer(20).run();
+
+        for (String id : List.of("just-started", "kicks-off-soon", "later-today", "next-hour")) {
+            verify(eventService).refreshEvent("soccer", id);
+        }
+        verify(eventService).refreshScore("soccer", "just-started");
+        verify(eventService).refreshScore("soccer", "kicks-off-soon");
+        verify(eventService, never()).refreshScore("soccer", "later-today");
+        verify(eventService, never()).refreshScore("soccer", "next-hour");
+        for (String id : List.of("started-long-ago", "beyond-window")) {
+            verify(feeds, never()).fetch(Sport.SOCCER, SportradarResource.SUMMARY, id, UpstreamPriority.PREFETCH);
+            verify(eventService, never()).refreshEvent("soccer", id);
+        }
+    }
+
+    @Test
+    void eventsAlreadyCachedAreOnlyRevisitedOnceTheirScoreIsDue() {
+        when(eventService.hasEvent("soccer", "later-today")).thenReturn(true);
+        when(eventService.hasEvent("soccer", "kicks-off-soon")).thenReturn(true);
+
+        prewarmer(20).run();
+
+        verify(feeds, never()).fetch(Sport.SOCCER, SportradarResource.SUMMARY, "later-today", UpstreamPriority.PREFETCH);
+        verify(eventService, never()).refreshEvent("soccer", "later-today");
+        verify(eventService).refreshScore("soccer", "kicks-off-soon");
+    }
+
+    @Test
+    void failedPrefetchSkipsTheRefreshes() {
+        when(feeds.fetch(Sport.SOCCER, SportradarResource.SUMMARY, "kicks-off-soon", UpstreamPriority.PREFETCH))
+                .thenThrow(new ExternalServiceException("Sportradar down", "unavailable"));
+
+        prewarmer(20).run();
+
+        verify(eventService, never()).refreshEvent("soccer", "kicks-off-soon");
+        verify(eventService, never()).refreshScore("soccer", "kicks-off-soon");
+        verify(eventService).refreshEvent("soccer", "later-today");
+    }
+
+    @Test
+    void stopsAtTheRequestBudgetWithTheEarliestMatchesFirst() {
+        prewarmer(3).run();
+
+        long scheduleCalls = upstreamCalls(SportradarResource.SCHEDULE);
+        long summaryCalls = upstreamCalls(SportradarResource.SUMMARY);
+        assertThat(scheduleCalls + summaryCalls).isEqualTo(3);
+
+        InOrder order = inOrder(eventService);
+        List<String> byStart = List.of("just-started", "kicks-off-soon", "later-today");
+        for (String id : byStart.subList(0, (int) summaryCalls)) {
+            order.verify(eventService).refreshEvent("soccer", id);
+        }
+        verify(eventService, never()).refreshEvent("soccer", "next-hour");
+    }
+
+    @Test
+    void defersWhenLiveTrafficLeavesNoSpareCapacity() {
+        when(upstreamScheduler.hasSpareCapacity(eq(Sport.SOCCER), anyDouble())).thenReturn(false);
+
+        prewarmer(20).run();
+
+        verify(feeds, never()).fetch(any(), any(), anyString(), any());
+        verifyNoInteractions(eventService);
+    }
+
+    private SchedulePrewarmer prewarmer(int maxRequestsPerRun) {
+        PrewarmProperties properties = new PrewarmProperties(true, List.of(Sport.SOCCER), null,
+                Duration.ofHours(2), Duration.ofMinutes(10), null, maxRequestsPerRun, 2.0);
+        return new SchedulePrewarmer(properties, feeds, new SportradarPayloadCache(new SimpleMeterRegistry(),
+                Duration.ofSeconds(2), 100), upstreamScheduler, eventService, new SimpleMeterRegistry());
+    }
+
+    private Map<String, Object> schedule(LocalDate day) {
+        List<Map<String, Object>> entries = starts.entrySet().stream()
+                .filter(entry -> LocalDate.ofInstant(entry.getValue(), ZoneOffset.UTC).equals(day))
+                .map(entry -> Map.<String, Object>of("sport_event", Map.of(
+                        "id", entry.getKey(),
+                        "start_time", entry.getValue().atOffset(ZoneOffset.UTC).toString())))
+                .toList();
+        return Map.of("schedules", entries);
+    }
+
+    private long upstreamCalls(SportradarResource resource) {
+        return mockingDetails(feeds).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("fetch"))
+                .filter(invocation -> invocation.getArgument(1) == resource)
+                .count();
+    }
+}
@@ -0,0 +1,120 @@
+package com.sportslive.service.stream;
+
+import com.sportslive.domain.model.EventStatus;
+import com.sportslive.domain.model.Sport;
+import com.sportslive.domain.model.SportEvent;
+import com.sportslive.domain.model.Timeline;
+import com.sportslive.domain.model.TimelineEvent;
+import com.sportslive.service.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventPollerTest {
+
+    private static final TimelineEvent KICK_OFF = event("1", "period_start");
+    private static final TimelineEvent GOAL = event("2", "score_change");
+    private static final TimelineEvent DISALLOWED = event("3", "video_assistant_referee");
+    private static final TimelineEvent FULL_TIME = event("4", "match_ended");
+
+    private final EventService eventService = mock(EventService.class);
+    private final AtomicBoolean finishedCallback = new AtomicBoolean();
+    private RecordingEmitter emitter;
+    private EventPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        emitter = new RecordingEmitter();
+        poller = new EventPoller("soccer", "sr:match:1", eventService, p -> finishedCallback.set(true));
+        poller.add(new StreamSubscriber(emitter, StreamType.TIMELINE, Runnable::run));
+        when(eventService.getEvent("soccer", "sr:match:1")).thenReturn(event(EventStatus.LIVE));
+    }
+
+    @Test
+    void timelineOfTheSameSizeWithNewContentIsSent() {
+        timeline(KICK_OFF, GOAL);
+        poller.poll();
+        timeline(KICK_OFF, DISALLOWED);
+        poller.poll();
+
+        assertThat(emitter.batches).containsExactly(List.of(KICK_OFF, GOAL), List.of(DISALLOWED));
+    }
+
+    @Test
+    void unchangedTimelineIsNotOfferedAgain() {
+        timeline(KICK_OFF, GOAL);
+        poller.poll();
+        timeline(KICK_OFF, GOAL);
+        poller.poll();
+
+        assertThat(emitter.batches).containsExactly(List.of(KICK_OFF, GOAL));
+    }
+
+    @Test
+    void eventsAreSentOncePerId() {
+        timeline(KICK_OFF, GOAL);
+        poller.poll();
+        timeline(KICK_OFF, new TimelineEvent("2", "score_change", null, null, "2", null, null, null, null, null, null));
+        poller.poll();
+
+        assertThat(emitter.batches).containsExactly(List.of(KICK_OFF, GOAL));
+    }
+
+    @Test
+    void finalEventIsSentBeforeTheStreamClosesAndLateSubscribersAreRefused() {
+        timeline(KICK_OFF, GOAL);
+        poller.poll();
+        when(eventService.getEvent("soccer", "sr:match:1")).thenReturn(event(EventStatus.FINISHED));
+        timeline(KICK_OFF, GOAL, FULL_TIME);
+        poller.poll();
+
+        assertThat(emitter.batches).containsExactly(List.of(KICK_OFF, GOAL), List.of(FULL_TIME));
+        assertThat(emitter.completed).isTrue();
+        assertThat(finishedCallback).isTrue();
+        assertThat(poller.add(new StreamSubscriber(new RecordingEmitter(), StreamType.TIMELINE, Runnable::run)))
+                .isFalse();
+    }
+
+    private void timeline(TimelineEvent... events) {
+        when(eventService.getTimeline("soccer", "sr:match:1"))
+                .thenReturn(new Timeline("sr:match:1", List.of(events), null));
+    }
+
+    private static SportEvent event(EventStatus status) {
+        return new SportEvent("sr:match:1", Sport.SOCCER, status, null, List.of(), null, null, null, null, null,
+                null);
+    }
+
+    private static TimelineEvent event(String id, String type) {
+        return new TimelineEvent(id, type, null, null, null, null, null, null, null, null, null);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Object> batches = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof List<?> batch) {
+                    batches.add(List.copyOf(batch));
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
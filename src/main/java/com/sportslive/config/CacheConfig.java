@@ -1,37 +0,0 @@
-package com.sportslive.config;
-
-import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-import java.util.concurrent.TimeUnit;
-
-@Configuration
-public class CacheConfig {
-
-    @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .recordStats());
-        return cacheManager;
-    }
-
-    @Bean
-    public Caffeine<Object, Object> liveScoreCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(500)
-                .expireAfterWrite(10, TimeUnit.SECONDS);
-    }
-
-    @Bean
-    public Caffeine<Object, Object> statisticsCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(200)
-                .expireAfterWrite(15, TimeUnit.MINUTES);
-    }
-}